@@ -1,21 +1,65 @@
 package com.woms.database;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
 
 /**
- * Simple file + ArrayList based backup storage for user accounts.
+ * File based backup storage for user accounts, indexed in memory by username.
  *
- * Format per line in accounts.txt:
- *   Role,Username,Password,TimeCreated
+ * Two files in the working directory:
+ *   accounts.txt      snapshot, one account per line: Role,Username,Password,TimeCreated
+ *   accounts.journal  binary, append-only; one record per change since the snapshot
+ *
+ * A change appends one record to the journal and forces it to disk; nothing is rewritten.
+ * A record is [length][CRC32][op, role, username, password, timeCreated], and an upsert carries
+ * the account's full state, so replaying a record twice gives the same result. When the journal
+ * holds more records than there are accounts (and at least COMPACT_MIN_RECORDS) it is folded
+ * into a new snapshot: written to accounts.txt.tmp, forced, renamed over accounts.txt in one
+ * step, and only then is the journal emptied. A crash at any point leaves either the old or the
+ * new snapshot in place; a record torn by a crash fails its length or checksum and is cut off
+ * at the next load.
+ *
+ * Usernames are matched case-insensitively, so lookups go through a map keyed by the lower-cased
+ * name. An accounts.txt from before the journal existed loads as is.
+ *
+ * Logins mirror their account through mirrorAccount, which only records it in memory and returns;
+ * a background flusher applies the mirrored accounts and journals the ones that actually changed,
+ * at most once per woms.accounts.flushIntervalMs (default 1000) or as soon as
+ * woms.accounts.flushBatch (default 100) are waiting. Every other method, and flush() (run by
+ * Database.shutdown), applies them first, so reads and writes always see them in order.
  */
 public class AccountStorage {
 
@@ -29,48 +73,252 @@ public class AccountStorage {
     // Use the accounts.txt file placed in the project root (Final project sa oop\accounts.txt)
     private static final String ACCOUNTS_FILE_NAME = "accounts.txt";
     private static final File ACCOUNTS_FILE = new File(ACCOUNTS_FILE_NAME);
+    private static final File ACCOUNTS_TMP_FILE = new File(ACCOUNTS_FILE_NAME + ".tmp");
+    private static final File JOURNAL_FILE = new File("accounts.journal");
     private static final DateTimeFormatter TIME_FMT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
-    // In-memory cache
-    private static final List<Account> accounts = new ArrayList<>();
+    private static final byte OP_PUT = 1;
+    private static final byte OP_REMOVE = 2;
+    // A record bigger than this can only be a torn or garbage length field
+    private static final int MAX_RECORD_BYTES = 64 * 1024;
+    private static final int COMPACT_MIN_RECORDS = 256;
+
+    private static final long FLUSH_INTERVAL_MS = Long.getLong("woms.accounts.flushIntervalMs", 1000);
+    private static final int FLUSH_BATCH = Math.max(1, Integer.getInteger("woms.accounts.flushBatch", 100));
+
+    // In-memory index, keyed by key(username); insertion order is the order written to the snapshot
+    private static final Map<String, Account> accounts = new LinkedHashMap<>();
+    private static int journalRecords = 0;
     private static boolean loaded = false;
 
+    // Accounts mirrored by logins and not applied yet, keyed like accounts; guarded by itself, never
+    // by the class lock, so a login does not wait for a journal write in progress
+    private static final Map<String, Account> mirrored = new LinkedHashMap<>();
+    private static boolean flushScheduled = false;
+    private static final ScheduledExecutorService FLUSHER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "woms-accounts-flush");
+        t.setDaemon(true);
+        return t;
+    });
+
     private static synchronized void ensureLoaded() {
         if (!loaded) {
             loadFromFileInternal();
             loaded = true;
         }
+        applyMirrored();
+    }
+
+    /**
+     * Record that an account just signed in, for the next background flush. No disk access and no
+     * wait on the storage lock; repeated logins of the same account before a flush write once,
+     * and one whose role and password are already stored writes nothing.
+     */
+    public static void mirrorAccount(String role, String username, String password) {
+        if (username == null) return;
+        Account acc = new Account();
+        acc.role = role;
+        acc.username = username;
+        acc.password = password;
+        acc.timeCreated = LocalDateTime.now().format(TIME_FMT);
+        boolean full;
+        synchronized (mirrored) {
+            mirrored.put(key(username), acc);
+            full = mirrored.size() >= FLUSH_BATCH;
+            if (!full && flushScheduled) return;
+            flushScheduled = true;
+        }
+        try {
+            FLUSHER.schedule(AccountStorage::flush, full ? 0 : FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Flusher stopped (JVM exiting); shutdown's flush() writes it
+        }
+    }
+
+    /** Write out every account mirrored so far. Called on shutdown; safe to call any time. */
+    public static synchronized void flush() {
+        synchronized (mirrored) {
+            if (mirrored.isEmpty()) return;
+        }
+        ensureLoaded();
+    }
+
+    // Merge mirrored logins into the index with addOrUpdateAccount's rules; journal only real changes
+    private static void applyMirrored() {
+        List<Account> batch;
+        synchronized (mirrored) {
+            flushScheduled = false;
+            if (mirrored.isEmpty()) return;
+            batch = new ArrayList<>(mirrored.values());
+            mirrored.clear();
+        }
+        List<Account> changed = new ArrayList<>(batch.size());
+        for (Account acc : batch) {
+            Account existing = findAccount(acc.username);
+            if (existing == null) {
+                accounts.put(key(acc.username), acc);
+                changed.add(acc);
+            } else {
+                String role = acc.role != null ? acc.role : existing.role;
+                String password = acc.password != null && !acc.password.isEmpty() ? acc.password : existing.password;
+                if (Objects.equals(role, existing.role) && Objects.equals(password, existing.password)) continue;
+                existing.role = role;
+                existing.password = password;
+                changed.add(existing);
+            }
+        }
+        journal(OP_PUT, changed);
+    }
+
+    private static String key(String username) {
+        return username == null ? null : username.trim().toLowerCase(Locale.ROOT);
     }
 
     private static void loadFromFileInternal() {
         accounts.clear();
-        if (!ACCOUNTS_FILE.exists()) {
-            return; // nothing to load yet
-        }
-        try (BufferedReader br = new BufferedReader(new FileReader(ACCOUNTS_FILE))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                line = line.trim();
-                if (line.isEmpty() || line.startsWith("#")) continue;
-                String[] parts = line.split(",", 4);
-                if (parts.length < 4) continue; // malformed
-                Account acc = new Account();
-                acc.role = parts[0].trim();
-                acc.username = parts[1].trim();
-                acc.password = parts[2].trim();
-                acc.timeCreated = parts[3].trim();
-                accounts.add(acc);
+        journalRecords = 0;
+        if (ACCOUNTS_FILE.exists()) {
+            try (BufferedReader br = new BufferedReader(new FileReader(ACCOUNTS_FILE))) {
+                String line;
+                while ((line = br.readLine()) != null) {
+                    line = line.trim();
+                    if (line.isEmpty() || line.startsWith("#")) continue;
+                    String[] parts = line.split(",", 4);
+                    if (parts.length < 4) continue; // malformed
+                    Account acc = new Account();
+                    acc.role = parts[0].trim();
+                    acc.username = parts[1].trim();
+                    acc.password = parts[2].trim();
+                    acc.timeCreated = parts[3].trim();
+                    // First line wins, as the old linear search did
+                    accounts.putIfAbsent(key(acc.username), acc);
+                }
+            } catch (IOException e) {
+                System.err.println("Failed to read accounts.txt: " + e.getMessage());
+            }
+        }
+        replayJournal();
+    }
+
+    private static void replayJournal() {
+        if (!JOURNAL_FILE.exists()) return;
+        long good = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(JOURNAL_FILE)))) {
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException end) {
+                    break;
+                }
+                long crc = in.readInt() & 0xFFFFFFFFL;
+                if (length <= 0 || length > MAX_RECORD_BYTES) break;
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+                CRC32 check = new CRC32();
+                check.update(payload, 0, payload.length);
+                if (check.getValue() != crc) break;
+                apply(payload);
+                journalRecords++;
+                good += 8 + length;
             }
+        } catch (EOFException torn) {
+            // Last record only partly written; dropped below
         } catch (IOException e) {
-            System.err.println("Failed to read accounts.txt: " + e.getMessage());
+            System.err.println("Failed to read accounts.journal: " + e.getMessage());
+        }
+        if (good < JOURNAL_FILE.length()) {
+            System.err.println("accounts.journal: dropping " + (JOURNAL_FILE.length() - good)
+                    + " bytes of an incomplete record");
+            try (RandomAccessFile raf = new RandomAccessFile(JOURNAL_FILE, "rw")) {
+                raf.setLength(good);
+            } catch (IOException e) {
+                System.err.println("Failed to truncate accounts.journal: " + e.getMessage());
+            }
+        }
+    }
+
+    private static void apply(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        byte op = in.readByte();
+        Account acc = new Account();
+        acc.role = in.readUTF();
+        acc.username = in.readUTF();
+        acc.password = in.readUTF();
+        acc.timeCreated = in.readUTF();
+        if (op == OP_PUT) {
+            putIndexed(acc);
+        } else if (op == OP_REMOVE) {
+            accounts.remove(key(acc.username));
+        }
+    }
+
+    // Replace the account's state in place, so an update keeps its position in the snapshot
+    private static void putIndexed(Account acc) {
+        Account existing = accounts.get(key(acc.username));
+        if (existing == null) {
+            accounts.put(key(acc.username), acc);
+        } else {
+            existing.role = acc.role;
+            existing.username = acc.username;
+            existing.password = acc.password;
+            existing.timeCreated = acc.timeCreated;
         }
     }
 
-    private static synchronized void saveToFile() {
-        try (BufferedWriter bw = new BufferedWriter(new FileWriter(ACCOUNTS_FILE))) {
+    private static byte[] record(byte op, Account acc) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(payload);
+        out.writeByte(op);
+        out.writeUTF(safe(acc.role));
+        out.writeUTF(safe(acc.username));
+        out.writeUTF(safe(acc.password));
+        out.writeUTF(acc.timeCreated != null ? acc.timeCreated : "");
+        byte[] body = payload.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(body, 0, body.length);
+        ByteBuffer framed = ByteBuffer.allocate(8 + body.length);
+        framed.putInt(body.length).putInt((int) crc.getValue()).put(body);
+        return framed.array();
+    }
+
+    /** Append records for these changes in one write, forced to disk, then compact if due. */
+    private static void journal(byte op, List<Account> changed) {
+        if (changed.isEmpty()) return;
+        try {
+            ByteArrayOutputStream batch = new ByteArrayOutputStream(changed.size() * 64);
+            for (Account acc : changed) {
+                batch.write(record(op, acc));
+            }
+            try (FileOutputStream out = new FileOutputStream(JOURNAL_FILE, true)) {
+                out.write(batch.toByteArray());
+                out.getChannel().force(false);
+            }
+            journalRecords += changed.size();
+        } catch (IOException e) {
+            System.err.println("Failed to append to accounts.journal: " + e.getMessage());
+            // The snapshot is the fallback: write everything now so the change is not lost
+            compact();
+            return;
+        }
+        if (journalRecords >= COMPACT_MIN_RECORDS && journalRecords > accounts.size()) {
+            compact();
+        }
+    }
+
+    private static void journal(byte op, Account acc) {
+        List<Account> one = new ArrayList<>(1);
+        one.add(acc);
+        journal(op, one);
+    }
+
+    /** Write every account to a new accounts.txt and empty the journal. */
+    private static synchronized void compact() {
+        try (FileOutputStream out = new FileOutputStream(ACCOUNTS_TMP_FILE);
+             BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(out))) {
             bw.write("# Role,Username,Password,TimeCreated");
             bw.newLine();
-            for (Account acc : accounts) {
+            for (Account acc : accounts.values()) {
                 String time = acc.timeCreated != null ? acc.timeCreated : LocalDateTime.now().format(TIME_FMT);
                 bw.write(String.join(",",
                         safe(acc.role),
@@ -79,8 +327,33 @@ public class AccountStorage {
                         time));
                 bw.newLine();
             }
+            bw.flush();
+            out.getChannel().force(true);
         } catch (IOException e) {
             System.err.println("Failed to write accounts.txt: " + e.getMessage());
+            ACCOUNTS_TMP_FILE.delete();
+            return;
+        }
+        try {
+            try {
+                Files.move(ACCOUNTS_TMP_FILE.toPath(), ACCOUNTS_FILE.toPath(),
+                        StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(ACCOUNTS_TMP_FILE.toPath(), ACCOUNTS_FILE.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            // The old snapshot and the journal are both still intact
+            System.err.println("Failed to replace accounts.txt: " + e.getMessage());
+            return;
+        }
+        // The snapshot now holds every journaled change; a crash before this line only means
+        // the same records are replayed once more
+        try (FileChannel ch = FileChannel.open(JOURNAL_FILE.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            ch.truncate(0);
+            ch.force(true);
+            journalRecords = 0;
+        } catch (IOException e) {
+            System.err.println("Failed to empty accounts.journal: " + e.getMessage());
         }
     }
 
@@ -97,7 +370,8 @@ public class AccountStorage {
             acc.username = username;
             acc.password = password;
             acc.timeCreated = timeCreated != null ? timeCreated : LocalDateTime.now().format(TIME_FMT);
-            accounts.add(acc);
+            accounts.put(key(username), acc);
+            journal(OP_PUT, acc);
         } else {
             existing.role = role != null ? role : existing.role;
             if (password != null && !password.isEmpty()) {
@@ -106,18 +380,52 @@ public class AccountStorage {
             if (timeCreated != null) {
                 existing.timeCreated = timeCreated;
             }
+            journal(OP_PUT, existing);
+        }
+    }
+
+    /**
+     * Add or update many accounts with one journal write, instead of one per account.
+     * Used by bulk imports; same merge rules as addOrUpdateAccount.
+     */
+    public static synchronized void addOrUpdateAccounts(List<Account> batch) {
+        ensureLoaded();
+        if (batch.isEmpty()) return;
+        String now = LocalDateTime.now().format(TIME_FMT);
+        List<Account> changed = new ArrayList<>(batch.size());
+        for (Account acc : batch) {
+            if (acc.username == null) continue;
+            Account existing = findAccount(acc.username);
+            if (existing == null) {
+                Account added = new Account();
+                added.role = acc.role;
+                added.username = acc.username;
+                added.password = acc.password;
+                added.timeCreated = acc.timeCreated != null ? acc.timeCreated : now;
+                accounts.put(key(acc.username), added);
+                changed.add(added);
+            } else {
+                existing.role = acc.role != null ? acc.role : existing.role;
+                if (acc.password != null && !acc.password.isEmpty()) {
+                    existing.password = acc.password;
+                }
+                if (acc.timeCreated != null) {
+                    existing.timeCreated = acc.timeCreated;
+                }
+                changed.add(existing);
+            }
         }
-        saveToFile();
+        journal(OP_PUT, changed);
     }
 
     public static synchronized boolean removeAccount(String username) {
         ensureLoaded();
         if (username == null) return false;
-        boolean removed = accounts.removeIf(a -> username.equalsIgnoreCase(a.username));
-        if (removed) {
-            saveToFile();
+        Account removed = accounts.remove(key(username));
+        if (removed != null) {
+            journal(OP_REMOVE, removed);
         }
-        return removed;
+        return removed != null;
     }
 
     public static synchronized boolean authenticate(String expectedRole, String username, String password) {
@@ -132,34 +440,69 @@ public class AccountStorage {
 
     private static Account findAccount(String username) {
         if (username == null) return null;
-        for (Account a : accounts) {
-            if (username.equalsIgnoreCase(a.username)) {
-                return a;
+        return accounts.get(key(username));
+    }
+
+    /**
+     * Difference between the users table and the stored accounts, matched by key(username).
+     * Built in one pass over each side using the index, instead of comparing every pair.
+     */
+    private static class SyncDiff {
+        final List<Account> newInDatabase = new ArrayList<>();  // rows with no stored account
+        final List<Account> changedInDatabase = new ArrayList<>(); // role or password differs from the stored one
+        final List<Account> onlyInFile = new ArrayList<>();     // stored accounts the table lacks
+    }
+
+    private static SyncDiff diff(List<Account> dbAccounts) {
+        SyncDiff diff = new SyncDiff();
+        Map<String, Account> inDatabase = new HashMap<>(dbAccounts.size() * 2);
+        for (Account dbAcc : dbAccounts) {
+            if (dbAcc.username == null) continue;
+            // Usernames differing only in case are one account here; the first row wins, as before
+            if (inDatabase.putIfAbsent(key(dbAcc.username), dbAcc) != null) continue;
+            Account existing = findAccount(dbAcc.username);
+            if (existing == null) {
+                diff.newInDatabase.add(dbAcc);
+            } else if (!Objects.equals(existing.role, dbAcc.role) || !Objects.equals(existing.password, dbAcc.password)) {
+                diff.changedInDatabase.add(dbAcc);
             }
         }
-        return null;
+        for (Map.Entry<String, Account> e : accounts.entrySet()) {
+            Account fileAcc = e.getValue();
+            if (fileAcc.username == null || fileAcc.username.isEmpty()) continue;
+            if (!inDatabase.containsKey(e.getKey())) diff.onlyInFile.add(fileAcc);
+        }
+        return diff;
     }
 
     /**
      * Export all existing H2 users into accounts.txt, merging with any
      * offline accounts already present in the file.
+     * Only accounts that are new or changed are written; when nothing differs the files are not touched.
+     * Accounts only in the file are kept: they are offline sign-ups for syncToDatabase, not deletions.
      */
     public static synchronized void syncFromDatabase() {
         ensureLoaded();
         try {
-            List<Account> dbAccounts = Database.getAllUserAccountsForSync();
-            for (Account dbAcc : dbAccounts) {
+            SyncDiff diff = diff(Database.getAllUserAccountsForSync());
+            List<Account> changed = new ArrayList<>(diff.newInDatabase.size() + diff.changedInDatabase.size());
+            for (Account dbAcc : diff.newInDatabase) {
+                // New account from DB
+                accounts.put(key(dbAcc.username), dbAcc);
+                changed.add(dbAcc);
+            }
+            for (Account dbAcc : diff.changedInDatabase) {
+                // Keep existing timeCreated, but refresh role/password from DB
                 Account existing = findAccount(dbAcc.username);
-                if (existing == null) {
-                    // New account from DB
-                    accounts.add(dbAcc);
-                } else {
-                    // Keep existing timeCreated, but refresh role/password from DB
-                    existing.role = dbAcc.role;
-                    existing.password = dbAcc.password;
-                }
+                existing.role = dbAcc.role;
+                existing.password = dbAcc.password;
+                changed.add(existing);
+            }
+            if (!ACCOUNTS_FILE.exists()) {
+                compact(); // first run: write the snapshot so accounts.txt is there to read
+            } else {
+                journal(OP_PUT, changed);
             }
-            saveToFile();
         } catch (Exception e) {
             System.err.println("Account sync from DB failed: " + e.getMessage());
             // If DB is offline, just keep whatever we have in the file
@@ -168,25 +511,14 @@ public class AccountStorage {
 
     /**
      * Attempt to push accounts that only exist in accounts.txt into H2 users table
-     * when the database is available.
+     * when the database is available. All of them go in one batch insert.
      */
     public static synchronized void syncToDatabase() {
         ensureLoaded();
         try {
-            List<Account> dbAccounts = Database.getAllUserAccountsForSync();
-            for (Account fileAcc : accounts) {
-                boolean existsInDb = false;
-                for (Account dbAcc : dbAccounts) {
-                    if (fileAcc.username != null && fileAcc.username.equalsIgnoreCase(dbAcc.username)) {
-                        existsInDb = true;
-                        break;
-                    }
-                }
-                if (!existsInDb && fileAcc.username != null && !fileAcc.username.isEmpty()) {
-                    // Insert minimal account into DB (no person/profile info)
-                    Database.createUserAccountFromSync(fileAcc.role, fileAcc.username, fileAcc.password);
-                }
-            }
+            SyncDiff diff = diff(Database.getAllUserAccountsForSync());
+            // Insert minimal accounts into DB (no person/profile info)
+            Database.createUserAccountsFromSync(diff.onlyInFile);
         } catch (Exception e) {
             System.err.println("Account sync TO DB failed: " + e.getMessage());
             // Safe to ignore in offline mode
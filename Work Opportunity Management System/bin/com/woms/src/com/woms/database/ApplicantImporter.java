@@ -0,0 +1,334 @@
+package com.woms.database;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bulk import of applicants from a registration-drive CSV.
+ *
+ * Expected columns: username,password,name,age,phone (a header row is optional).
+ * The file is streamed in chunks; each chunk is parsed and checked against the
+ * registration form's rules on a worker thread, then written in file order as one
+ * users+persons transaction per chunk, the same two rows createApplicant inserts.
+ * Rows that fail validation, reuse an existing username or fail to insert go to the
+ * rejects file with their line number and reason.
+ *
+ *   java -cp ".;lib/h2-1.4.200.jar" com.woms.database.ApplicantImporter applicants.csv [rejects.csv]
+ */
+public class ApplicantImporter {
+
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    public static class Result {
+        public long rowsRead;
+        public long imported;
+        public long rejected;
+        public long elapsedMs;
+        public File rejectsFile;
+
+        @Override
+        public String toString() {
+            return "read=" + rowsRead + " imported=" + imported + " rejected=" + rejected
+                    + " in " + elapsedMs + " ms (rejects: " + rejectsFile + ")";
+        }
+    }
+
+    private static class Row {
+        long lineNo;
+        String raw;
+        String username;
+        String password;
+        String name;
+        int age;
+        String phone;
+        String error;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: ApplicantImporter <applicants.csv> [rejects.csv]");
+            System.exit(2);
+        }
+        File csv = new File(args[0]);
+        File rejects = args.length > 1 ? new File(args[1]) : defaultRejectsFile(csv);
+        Database.init();
+        try {
+            System.out.println("Imported applicants: " + importCsv(csv, rejects));
+        } finally {
+            Database.shutdown();
+        }
+    }
+
+    public static File defaultRejectsFile(File csv) {
+        String name = csv.getName();
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        return new File(csv.getAbsoluteFile().getParentFile(), base + ".rejects.csv");
+    }
+
+    public static Result importCsv(File csv, File rejects) throws IOException, SQLException {
+        return importCsv(csv, rejects, DEFAULT_BATCH_SIZE, Runtime.getRuntime().availableProcessors());
+    }
+
+    public static Result importCsv(File csv, File rejects, int batchSize, int threads) throws IOException, SQLException {
+        long start = System.nanoTime();
+        Result result = new Result();
+        result.rejectsFile = rejects;
+        List<AccountStorage.Account> accounts = new ArrayList<>();
+        ExecutorService validators = Executors.newFixedThreadPool(Math.max(1, threads), new ValidatorThreadFactory());
+        // Chunks handed to the validators, oldest first; bounded so we never read far ahead of the writer
+        Deque<Future<List<Row>>> inFlight = new ArrayDeque<>();
+        int maxInFlight = Math.max(2, threads * 2);
+        try (BufferedReader in = Files.newBufferedReader(csv.toPath(), StandardCharsets.UTF_8);
+             BufferedWriter rej = Files.newBufferedWriter(rejects.toPath(), StandardCharsets.UTF_8);
+             Connection conn = Database.getConnection()) {
+            rej.write("line,reason,row");
+            rej.newLine();
+            conn.setAutoCommit(false);
+            Set<String> taken = loadUsernames(conn);
+
+            List<Row> chunk = new ArrayList<>(batchSize);
+            String line;
+            long lineNo = 0;
+            while ((line = in.readLine()) != null) {
+                lineNo++;
+                if (line.trim().isEmpty() || (lineNo == 1 && isHeader(line))) continue;
+                Row r = new Row();
+                r.lineNo = lineNo;
+                r.raw = line;
+                chunk.add(r);
+                result.rowsRead++;
+                if (chunk.size() >= batchSize) {
+                    inFlight.add(submit(validators, chunk));
+                    chunk = new ArrayList<>(batchSize);
+                    if (inFlight.size() >= maxInFlight) {
+                        writeChunk(conn, await(inFlight.poll()), taken, rej, accounts, result);
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                inFlight.add(submit(validators, chunk));
+            }
+            while (!inFlight.isEmpty()) {
+                writeChunk(conn, await(inFlight.poll()), taken, rej, accounts, result);
+            }
+        } finally {
+            validators.shutdownNow();
+        }
+        // One journal append for the whole import (compacted into accounts.txt only when due);
+        // syncFromDatabase repairs the local store if we die before this
+        AccountStorage.addOrUpdateAccounts(accounts);
+        if (result.imported > 0) {
+            ChangeEventBus.publish(ChangeEvent.bulk(ChangeEvent.Entity.APPLICANT));
+        }
+        result.elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        return result;
+    }
+
+    private static Future<List<Row>> submit(ExecutorService validators, List<Row> chunk) {
+        return validators.submit(() -> {
+            for (Row r : chunk) validate(r);
+            return chunk;
+        });
+    }
+
+    private static List<Row> await(Future<List<Row>> f) throws IOException {
+        try {
+            return f.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Import interrupted");
+        } catch (ExecutionException e) {
+            throw new IOException("Validation failed: " + e.getCause(), e.getCause());
+        }
+    }
+
+    // Runs on a validator thread; only touches the row itself
+    private static void validate(Row r) {
+        List<String> fields = parseCsvLine(r.raw);
+        if (fields.size() != 5) {
+            r.error = "Expected 5 columns (username,password,name,age,phone) but found " + fields.size() + ".";
+            return;
+        }
+        r.username = fields.get(0).trim();
+        r.password = fields.get(1);
+        r.name = fields.get(2).trim();
+        String ageStr = fields.get(3).trim();
+        r.phone = fields.get(4).trim();
+        r.error = ApplicantValidator.validate(r.username, r.password, r.name, ageStr, r.phone);
+        if (r.error == null) {
+            r.age = Integer.parseInt(ageStr);
+        }
+    }
+
+    // Runs on the importing thread, in file order, so "first row wins" on duplicate usernames
+    private static void writeChunk(Connection conn, List<Row> chunk, Set<String> taken, BufferedWriter rej,
+                                   List<AccountStorage.Account> accounts, Result result) throws IOException, SQLException {
+        List<Row> valid = new ArrayList<>(chunk.size());
+        for (Row r : chunk) {
+            if (r.error == null && !taken.add(r.username.toLowerCase(Locale.ROOT))) {
+                r.error = "Username already taken.";
+            }
+            if (r.error != null) {
+                reject(rej, r, result);
+            } else {
+                valid.add(r);
+            }
+        }
+        if (valid.isEmpty()) return;
+        try {
+            insert(conn, valid);
+            imported(valid, accounts, result);
+        } catch (SQLException batchError) {
+            // Something in the chunk broke the batch; retry row by row so only the bad rows are rejected
+            conn.rollback();
+            for (Row r : valid) {
+                try {
+                    insert(conn, Collections.singletonList(r));
+                    imported(Collections.singletonList(r), accounts, result);
+                } catch (SQLException rowError) {
+                    conn.rollback();
+                    r.error = "Database error: " + rowError.getMessage();
+                    reject(rej, r, result);
+                }
+            }
+        }
+    }
+
+    // Same inserts as Database.createApplicant, one batch per table and one commit for the lot
+    private static void insert(Connection conn, List<Row> rows) throws SQLException {
+        List<Integer> userIds = new ArrayList<>(rows.size());
+        try (PreparedStatement users = conn.prepareStatement("INSERT INTO users(username,password,role) VALUES(?,?,?)", Statement.RETURN_GENERATED_KEYS)) {
+            for (Row r : rows) {
+                users.setString(1, r.username);
+                users.setString(2, r.password);
+                users.setString(3, "APPLICANT");
+                users.addBatch();
+            }
+            users.executeBatch();
+            try (ResultSet keys = users.getGeneratedKeys()) {
+                while (keys.next()) userIds.add(keys.getInt(1));
+            }
+        }
+        if (userIds.size() != rows.size()) {
+            throw new SQLException("Expected " + rows.size() + " user ids but got " + userIds.size());
+        }
+        try (PreparedStatement persons = conn.prepareStatement("INSERT INTO persons(user_id,name,age,phone) VALUES(?,?,?,?)")) {
+            for (int i = 0; i < rows.size(); i++) {
+                Row r = rows.get(i);
+                persons.setInt(1, userIds.get(i));
+                persons.setString(2, r.name);
+                persons.setInt(3, r.age);
+                persons.setString(4, r.phone);
+                persons.addBatch();
+            }
+            persons.executeBatch();
+        }
+        Database.adjustMetric(conn, "applicants", "APPLICANT", rows.size(), 0);
+        conn.commit();
+    }
+
+    private static void imported(List<Row> rows, List<AccountStorage.Account> accounts, Result result) {
+        for (Row r : rows) {
+            AccountStorage.Account acc = new AccountStorage.Account();
+            acc.role = "APPLICANT";
+            acc.username = r.username;
+            acc.password = r.password;
+            accounts.add(acc);
+        }
+        result.imported += rows.size();
+    }
+
+    private static void reject(BufferedWriter rej, Row r, Result result) throws IOException {
+        rej.write(r.lineNo + "," + quote(r.error) + "," + quote(r.raw));
+        rej.newLine();
+        result.rejected++;
+    }
+
+    // Usernames already in the database, lower-cased to match the case-insensitive account backup
+    private static Set<String> loadUsernames(Connection conn) throws SQLException {
+        Set<String> names = new HashSet<>();
+        try (PreparedStatement p = conn.prepareStatement("SELECT username FROM users");
+             ResultSet rs = p.executeQuery()) {
+            while (rs.next()) {
+                String u = rs.getString(1);
+                if (u != null) names.add(u.toLowerCase(Locale.ROOT));
+            }
+        }
+        return names;
+    }
+
+    private static boolean isHeader(String line) {
+        List<String> fields = parseCsvLine(line);
+        return !fields.isEmpty() && fields.get(0).trim().equalsIgnoreCase("username");
+    }
+
+    // Split one CSV record; supports "quoted, fields" with "" escapes (no embedded line breaks)
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder sb = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        sb.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    sb.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(sb.toString());
+                sb.setLength(0);
+            } else {
+                sb.append(c);
+            }
+        }
+        fields.add(sb.toString());
+        return fields;
+    }
+
+    private static String quote(String s) {
+        return "\"" + (s == null ? "" : s.replace("\"", "\"\"")) + "\"";
+    }
+
+    private static class ValidatorThreadFactory implements java.util.concurrent.ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "woms-import-validator-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
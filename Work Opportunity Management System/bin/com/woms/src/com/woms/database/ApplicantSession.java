@@ -0,0 +1,65 @@
+package com.woms.database;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Everything the applicant portal shows when it opens, fetched in one go.
+ *
+ * The seven queries behind the portal tabs (jobs, recommendations, applications, today's
+ * attendance, attendance history, active training programs, needs) are submitted to
+ * {@link AsyncDatabase} together, so they run side by side on pooled connections and the
+ * snapshot is ready after the slowest of them instead of after all of them in turn.
+ * If any query fails the snapshot fails with that error.
+ */
+public class ApplicantSession {
+
+    public final int applicantId;
+    public final List<Database.JobRecord> jobs;
+    public final List<Database.JobMatchRecord> matches;
+    public final List<Database.ApplicationRecord> applications;
+    public final Database.AttendanceRecord todayAttendance;
+    public final List<Database.AttendanceRecord> attendance;
+    public final List<Database.TrainingProgramRecord> trainingPrograms;
+    public final List<Database.ApplicantNeedRecord> needs;
+
+    private ApplicantSession(int applicantId, List<Database.JobRecord> jobs, List<Database.JobMatchRecord> matches,
+                             List<Database.ApplicationRecord> applications, Database.AttendanceRecord todayAttendance,
+                             List<Database.AttendanceRecord> attendance,
+                             List<Database.TrainingProgramRecord> trainingPrograms,
+                             List<Database.ApplicantNeedRecord> needs) {
+        this.applicantId = applicantId;
+        this.jobs = jobs;
+        this.matches = matches;
+        this.applications = applications;
+        this.todayAttendance = todayAttendance;
+        this.attendance = attendance;
+        this.trainingPrograms = trainingPrograms;
+        this.needs = needs;
+    }
+
+    /** Start loading the portal for an applicant on the shared executor. */
+    public static CompletableFuture<ApplicantSession> load(int applicantId) {
+        return load(AsyncDatabase.shared(), applicantId);
+    }
+
+    public static CompletableFuture<ApplicantSession> load(AsyncDatabase async, int applicantId) {
+        CompletableFuture<List<Database.JobRecord>> jobs = async.submit(Database::getAllJobs);
+        CompletableFuture<List<Database.JobMatchRecord>> matches =
+                async.submit(() -> Database.getMatchingJobsForApplicant(applicantId));
+        CompletableFuture<List<Database.ApplicationRecord>> applications =
+                async.submit(() -> Database.getApplicationsByApplicant(applicantId));
+        CompletableFuture<Database.AttendanceRecord> today = async.submit(() -> Database.getTodayAttendance(applicantId));
+        CompletableFuture<List<Database.AttendanceRecord>> attendance =
+                async.submit(() -> Database.getApplicantAttendance(applicantId));
+        CompletableFuture<List<Database.TrainingProgramRecord>> programs =
+                async.submit(() -> Database.getTrainingProgramsByStatus("ACTIVE"));
+        CompletableFuture<List<Database.ApplicantNeedRecord>> needs =
+                async.submit(() -> Database.getApplicantNeeds(applicantId));
+
+        // Every part is done once allOf completes, so join() below never blocks
+        return CompletableFuture.allOf(jobs, matches, applications, today, attendance, programs, needs)
+                .thenApply(v -> new ApplicantSession(applicantId, jobs.join(), matches.join(), applications.join(),
+                        today.join(), attendance.join(), programs.join(), needs.join()));
+    }
+}
@@ -0,0 +1,46 @@
+package com.woms.database;
+
+import java.util.regex.Pattern;
+
+/**
+ * Field rules for applicant registration, shared by ApplicantRegistrationFrame and ApplicantImporter
+ * so a row accepted by the bulk import is one the form would have accepted too.
+ */
+public class ApplicantValidator {
+
+    // 3–25 chars, no spaces
+    private static final Pattern USERNAME = Pattern.compile("^[^\\s]{3,25}$");
+    // 8+ chars with at least 1 uppercase, 1 lowercase, 1 digit, 1 special character
+    private static final Pattern PASSWORD = Pattern.compile("^(?=.*[A-Z])(?=.*[a-z])(?=.*\\d)(?=.*[^A-Za-z0-9]).{8,}$");
+    // Only 18–60 allowed
+    private static final Pattern AGE = Pattern.compile("^(1[89]|[2-5]\\d|60)$");
+    // 09 + 9 digits = exactly 11 digits, numbers only
+    private static final Pattern PHONE = Pattern.compile("^09\\d{9}$");
+
+    /**
+     * Check the registration fields; returns the message to show the user, or null when the values are valid.
+     * Inputs are expected to be trimmed already (except the password, which is taken as typed).
+     */
+    public static String validate(String username, String password, String name, String ageStr, String phone) {
+        if (isEmpty(username) || isEmpty(password) || isEmpty(name) || isEmpty(ageStr) || isEmpty(phone)) {
+            return "Please fill in all required fields.";
+        }
+        if (!USERNAME.matcher(username).matches()) {
+            return "Username must be 3–25 characters with no spaces.";
+        }
+        if (!PASSWORD.matcher(password).matches()) {
+            return "Password must be 8+ chars with uppercase, lowercase, number, and special character.";
+        }
+        if (!AGE.matcher(ageStr).matches()) {
+            return "Age must be between 18 and 60.";
+        }
+        if (!PHONE.matcher(phone).matches()) {
+            return "Phone number must be 11 digits and start with 09.";
+        }
+        return null;
+    }
+
+    private static boolean isEmpty(String s) {
+        return s == null || s.isEmpty();
+    }
+}
@@ -0,0 +1,108 @@
+package com.woms.database;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares the platform and virtual execution modes of {@link AsyncDatabase} on the real
+ * Database methods.
+ *
+ * Each simulated applicant session opens the portal: {@link ApplicantSession} submits the seven
+ * tab queries ApplicantGUI shows (jobs, applications, needs, recommendations, today's attendance,
+ * attendance history, training) together and the session ends when all of them have answered. All sessions start
+ * at once; the report gives calls per second, session latency and the peak number of live threads.
+ * Caches are cleared before every round so the queries reach the database.
+ *
+ *   java -cp ".;lib/h2-1.4.200.jar" com.woms.database.AsyncBenchmark [sessions] [rounds]
+ *
+ * Uses the database in ./data like the application; sample data is seeded if it is empty.
+ * Virtual mode needs Java 21 or later and is skipped on older JVMs.
+ */
+public class AsyncBenchmark {
+
+    private static final int CALLS_PER_SESSION = 7;
+
+    public static void main(String[] args) throws Exception {
+        int sessions = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+
+        Database.init();
+        Database.seedSampleData();
+        int[] applicantIds = applicantIds();
+        if (applicantIds.length == 0) {
+            System.err.println("No applicants to benchmark with.");
+            return;
+        }
+        int permits = Database.getPoolMaxSize();
+        System.out.println("Sessions: " + sessions + " x " + CALLS_PER_SESSION + " calls, rounds: " + rounds
+                + ", connection pool: " + permits + ", applicants: " + applicantIds.length
+                + ", java " + System.getProperty("java.version"));
+
+        List<AsyncDatabase.Mode> modes = new ArrayList<>(Arrays.asList(AsyncDatabase.Mode.values()));
+        if (!AsyncDatabase.isVirtualThreadsAvailable()) {
+            System.out.println("Virtual threads are not available on this JVM; only the platform pool is measured.");
+            modes.remove(AsyncDatabase.Mode.VIRTUAL);
+        }
+        for (AsyncDatabase.Mode mode : modes) {
+            // The queue must hold every call of one round, otherwise platform mode rejects instead of queueing
+            AsyncDatabase async = new AsyncDatabase(mode, permits, sessions * CALLS_PER_SESSION);
+            runRound(async, applicantIds, Math.min(sessions, 50), null); // warm-up
+            for (int r = 1; r <= rounds; r++) {
+                runRound(async, applicantIds, sessions, mode.name().toLowerCase() + " #" + r);
+            }
+            async.shutdown();
+            async.awaitTermination(30, TimeUnit.SECONDS);
+        }
+        System.out.println(Database.getPoolStats());
+        Database.shutdown();
+    }
+
+    private static void runRound(AsyncDatabase async, int[] applicantIds, int sessions, String label) {
+        Database.invalidateCaches();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        AtomicInteger failures = new AtomicInteger();
+        long[] latencies = new long[sessions];
+        CompletableFuture<?>[] done = new CompletableFuture<?>[sessions];
+
+        long start = System.nanoTime();
+        for (int s = 0; s < sessions; s++) {
+            int id = applicantIds[s % applicantIds.length];
+            int index = s;
+            long opened = System.nanoTime();
+            done[s] = ApplicantSession.load(async, id)
+                .whenComplete((v, e) -> {
+                    latencies[index] = System.nanoTime() - opened;
+                    if (e != null) failures.incrementAndGet();
+                });
+        }
+        CompletableFuture.allOf(done).handle((v, e) -> null).join();
+        long elapsed = System.nanoTime() - start;
+        if (label == null) return;
+
+        Arrays.sort(latencies);
+        System.out.printf("%-12s %8.0f calls/s  session p50 %7.1f ms  p95 %7.1f ms  max %7.1f ms  peak threads %4d  failed %d%n",
+                label,
+                sessions * (double) CALLS_PER_SESSION / (elapsed / 1e9),
+                latencies[sessions / 2] / 1e6,
+                latencies[(int) Math.min(sessions - 1, Math.ceil(sessions * 0.95) - 1)] / 1e6,
+                latencies[sessions - 1] / 1e6,
+                threads.getPeakThreadCount(),
+                failures.get());
+    }
+
+    private static int[] applicantIds() throws Exception {
+        List<Database.ApplicantRecord> rows = Database.getApplicantsPage(null, Database.PageDirection.NEXT, 200).rows;
+        int[] ids = new int[rows.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = rows.get(i).userId;
+        }
+        return ids;
+    }
+}
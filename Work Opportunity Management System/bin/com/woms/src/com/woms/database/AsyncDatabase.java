@@ -0,0 +1,208 @@
+package com.woms.database;
+
+import java.sql.SQLException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CompletableFuture front end for {@link Database}, so screens never run a query on the
+ * Swing event thread.
+ *
+ * Any Database call can be handed over as a lambda ({@code supply(() -> Database.getAllJobs())});
+ * results and failures are delivered on a worker thread, and Swing code hops back to the EDT
+ * itself (see gui.panels.DbTask). Two execution modes:
+ *
+ *   platform  a fixed pool of worker threads sized to the connection pool with a bounded queue;
+ *             when the queue is full the future fails straight away with an SQLException.
+ *   virtual   one virtual thread per call (JDK 21+), with a semaphore sized to the connection
+ *             pool so no more calls than connections run at once. Waiting calls are parked
+ *             virtual threads, which cost next to nothing, so many applicant sessions loading
+ *             their tabs together do not exhaust threads; a call that waits longer than the pool's
+ *             borrow timeout fails like a pool timeout. The JDK is looked up reflectively, so on
+ *             an older JVM this mode logs a warning and falls back to platform.
+ *
+ * Settings (system properties, all optional):
+ *   woms.db.async.mode     platform or virtual (default platform)
+ *   woms.db.async.threads  platform workers / virtual-mode permits (default woms.db.pool.maxSize)
+ *   woms.db.async.queue    platform mode: calls allowed to wait for a worker (default 256)
+ *
+ * Run {@link AsyncBenchmark} to compare the two modes on this machine.
+ */
+public class AsyncDatabase {
+
+    public interface Call<T> {
+        T call() throws SQLException;
+    }
+
+    public interface Action {
+        void run() throws SQLException;
+    }
+
+    public enum Mode { PLATFORM, VIRTUAL }
+
+    private static final AsyncDatabase DEFAULT = new AsyncDatabase(
+            "virtual".equalsIgnoreCase(System.getProperty("woms.db.async.mode")) ? Mode.VIRTUAL : Mode.PLATFORM,
+            Integer.getInteger("woms.db.async.threads", Database.getPoolMaxSize()),
+            Integer.getInteger("woms.db.async.queue", 256));
+
+    private final Mode mode;
+    private final int permits;
+    private final int queueSize;
+    private final ExecutorService executor;
+    // Virtual mode only: one permit per connection, taken for the duration of a call
+    private final Semaphore slots;
+    private final long slotTimeoutMs;
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    /** A separate executor; the app uses the shared one behind the static methods. */
+    public AsyncDatabase(Mode requested, int permits, int queueSize) {
+        this.permits = Math.max(1, permits);
+        this.queueSize = Math.max(1, queueSize);
+        this.slotTimeoutMs = Database.getPoolBorrowTimeoutMs();
+        ExecutorService virtual = requested == Mode.VIRTUAL ? newVirtualThreadExecutor() : null;
+        if (requested == Mode.VIRTUAL && virtual == null) {
+            System.err.println("Virtual threads need Java 21 or later (running " + System.getProperty("java.version")
+                    + "); database calls use the platform thread pool.");
+        }
+        if (virtual != null) {
+            this.mode = Mode.VIRTUAL;
+            this.executor = virtual;
+            this.slots = new Semaphore(this.permits, true);
+        } else {
+            this.mode = Mode.PLATFORM;
+            this.executor = newPlatformExecutor(this.permits, this.queueSize);
+            this.slots = null;
+        }
+    }
+
+    public static <T> CompletableFuture<T> supply(Call<T> call) {
+        return DEFAULT.submit(call);
+    }
+
+    public static CompletableFuture<Void> run(Action action) {
+        return supply(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    // The executor behind the static methods, for loaders that submit several calls at once
+    static AsyncDatabase shared() {
+        return DEFAULT;
+    }
+
+    public static Mode getMode() {
+        return DEFAULT.mode;
+    }
+
+    // Worker counters for diagnostics
+    public static String getStats() {
+        return DEFAULT.stats();
+    }
+
+    /** True when this JVM can create virtual threads. */
+    public static boolean isVirtualThreadsAvailable() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    public <T> CompletableFuture<T> submit(Call<T> call) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(slots == null ? call.call() : callWithSlot(call));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    completed.incrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            future.completeExceptionally(new SQLException(
+                    "Database is busy (" + queueSize + " requests waiting); please try again", e));
+        }
+        return future;
+    }
+
+    private <T> T callWithSlot(Call<T> call) throws SQLException {
+        try {
+            if (!slots.tryAcquire(slotTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new SQLException("Timed out after " + slotTimeoutMs + " ms waiting for a database connection "
+                        + "(" + permits + " in use)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+        try {
+            return call.call();
+        } finally {
+            slots.release();
+        }
+    }
+
+    public Mode mode() {
+        return mode;
+    }
+
+    /** Stop accepting calls; ones already submitted still run. */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    public String stats() {
+        StringBuilder sb = new StringBuilder("AsyncDatabase[mode=").append(mode.name().toLowerCase());
+        if (executor instanceof ThreadPoolExecutor) {
+            ThreadPoolExecutor pool = (ThreadPoolExecutor) executor;
+            sb.append(" active=").append(pool.getActiveCount())
+              .append(" queued=").append(pool.getQueue().size())
+              .append(" largestPool=").append(pool.getLargestPoolSize());
+        } else {
+            sb.append(" running=").append(permits - slots.availablePermits())
+              .append(" waiting=").append(slots.getQueueLength());
+        }
+        return sb.append(" completed=").append(completed.get())
+                 .append(" rejected=").append(rejected.get()).append(']').toString();
+    }
+
+    private static ExecutorService newPlatformExecutor(int threads, int queueSize) {
+        AtomicInteger seq = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), r -> {
+                    Thread t = new Thread(r, "woms-db-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        // Idle workers go away, so an applicant sitting on one screen holds no threads
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    // Executors.newVirtualThreadPerTaskExecutor() without a compile-time dependency on JDK 21
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.woms.database;
+
+/**
+ * One committed change made through Database, published on {@link ChangeEventBus}.
+ *
+ * Status changes carry the old and new status so a table can patch the single cell;
+ * creates carry the new record when the writer already had it (jobs, training programs),
+ * otherwise listeners look the row up by id. BULK means "many rows of this entity changed"
+ * (seeding, imports, batch inserts) and has no id.
+ */
+public class ChangeEvent {
+
+    public enum Entity { APPLICANT, JOB, APPLICATION, INTERVIEW, TRAINING_PROGRAM, TRAINING_ENROLLMENT, EMPLOYMENT, RESOURCE }
+
+    public enum Kind { CREATED, UPDATED, DELETED, BULK }
+
+    public final Entity entity;
+    public final Kind kind;
+    public final int id;
+    public final String oldStatus;
+    public final String newStatus;
+    public final Object record;
+
+    public ChangeEvent(Entity entity, Kind kind, int id, String oldStatus, String newStatus, Object record) {
+        this.entity = entity;
+        this.kind = kind;
+        this.id = id;
+        this.oldStatus = oldStatus;
+        this.newStatus = newStatus;
+        this.record = record;
+    }
+
+    public static ChangeEvent created(Entity entity, int id, String status, Object record) {
+        return new ChangeEvent(entity, Kind.CREATED, id, null, status, record);
+    }
+
+    public static ChangeEvent updated(Entity entity, int id, String oldStatus, String newStatus) {
+        return new ChangeEvent(entity, Kind.UPDATED, id, oldStatus, newStatus, null);
+    }
+
+    public static ChangeEvent deleted(Entity entity, int id) {
+        return new ChangeEvent(entity, Kind.DELETED, id, null, null, null);
+    }
+
+    public static ChangeEvent bulk(Entity entity) {
+        return new ChangeEvent(entity, Kind.BULK, 0, null, null, null);
+    }
+
+    @Override
+    public String toString() {
+        return entity + " " + kind + (kind == Kind.BULK ? "" : " #" + id)
+                + (oldStatus != null || newStatus != null ? " " + oldStatus + " -> " + newStatus : "");
+    }
+}
@@ -0,0 +1,37 @@
+package com.woms.database;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-process publish/subscribe for {@link ChangeEvent}s.
+ *
+ * Database publishes after each write commits, on the thread that made the write;
+ * listeners must be quick and hand any Swing work over to the EDT themselves
+ * (see gui.panels.ChangeCoalescer). A listener that throws is logged and skipped.
+ */
+public class ChangeEventBus {
+
+    public interface Listener {
+        void onChange(ChangeEvent event);
+    }
+
+    private static final CopyOnWriteArrayList<Listener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    public static void subscribe(Listener listener) {
+        LISTENERS.addIfAbsent(listener);
+    }
+
+    public static void unsubscribe(Listener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    public static void publish(ChangeEvent event) {
+        for (Listener l : LISTENERS) {
+            try {
+                l.onChange(event);
+            } catch (RuntimeException e) {
+                System.err.println("Change listener failed on " + event + ": " + e);
+            }
+        }
+    }
+}
@@ -0,0 +1,418 @@
+package com.woms.database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Small fixed-bounds connection pool for the embedded H2 database.
+ *
+ * Connections handed out by {@link #borrow()} are proxies: calling close() on them
+ * returns the physical connection to the pool instead of closing it, so the existing
+ * try-with-resources code in {@link Database} works unchanged.
+ *
+ * Settings (system properties, all optional):
+ *   woms.db.pool.minSize          connections kept open even when idle (default 1)
+ *   woms.db.pool.maxSize          hard upper bound on open connections (default 8)
+ *   woms.db.pool.borrowTimeoutMs  how long borrow() waits for a free connection (default 5000)
+ *   woms.db.pool.idleTimeoutMs    idle time after which extra connections are closed (default 300000)
+ *   woms.db.pool.validationSec    timeout passed to Connection.isValid on borrow (default 2)
+ *   woms.db.pool.statementCache   prepared statements cached per connection, 0 disables (default 64)
+ */
+public class ConnectionPool {
+
+    private final String url;
+    private final int minSize;
+    private final int maxSize;
+    private final long borrowTimeoutMs;
+    private final long idleTimeoutMs;
+    private final int validationTimeoutSec;
+    private final int statementCacheSize;
+
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final ScheduledExecutorService evictor;
+    private volatile boolean shutdown = false;
+    // Distinct SQL prepared through the pool, only filled while capture is on (see setSqlCapture)
+    private final Set<String> capturedSql = ConcurrentHashMap.newKeySet();
+    private volatile boolean captureSql = false;
+
+    // Metrics
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+    private final AtomicLong validationFailures = new AtomicLong();
+    private final AtomicLong borrowTimeouts = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong statementHits = new AtomicLong();
+    private final AtomicLong statementMisses = new AtomicLong();
+    private final AtomicLong statementEvictions = new AtomicLong();
+
+    public ConnectionPool(String url, int minSize, int maxSize, long borrowTimeoutMs, long idleTimeoutMs,
+                          int validationTimeoutSec, int statementCacheSize) {
+        if (maxSize < 1) maxSize = 1;
+        if (minSize < 0) minSize = 0;
+        if (minSize > maxSize) minSize = maxSize;
+        this.url = url;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.borrowTimeoutMs = borrowTimeoutMs;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.validationTimeoutSec = validationTimeoutSec;
+        this.statementCacheSize = Math.max(0, statementCacheSize);
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "woms-pool-evictor");
+            t.setDaemon(true);
+            return t;
+        });
+        long period = Math.max(1000L, Math.min(idleTimeoutMs / 2, 60000L));
+        evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    // Build a pool from woms.db.pool.* system properties
+    public static ConnectionPool fromSystemProperties(String url) {
+        return new ConnectionPool(url,
+                Integer.getInteger("woms.db.pool.minSize", 1),
+                Integer.getInteger("woms.db.pool.maxSize", 8),
+                Long.getLong("woms.db.pool.borrowTimeoutMs", 5000L),
+                Long.getLong("woms.db.pool.idleTimeoutMs", 300000L),
+                Integer.getInteger("woms.db.pool.validationSec", 2),
+                Integer.getInteger("woms.db.pool.statementCache", 64));
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getBorrowTimeoutMs() {
+        return borrowTimeoutMs;
+    }
+
+    // Open connections up to minSize so the first clicks don't pay the H2 open cost
+    public void warmUp() throws SQLException {
+        while (totalConnections.get() < minSize) {
+            if (!reserveSlot()) break;
+            idle.offerFirst(openPhysical());
+        }
+    }
+
+    /**
+     * Borrow a connection, waiting up to borrowTimeoutMs when the pool is exhausted.
+     * The returned connection must be closed by the caller to give it back.
+     */
+    public Connection borrow() throws SQLException {
+        if (shutdown) throw new SQLException("Connection pool has been shut down");
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(borrowTimeoutMs);
+        while (true) {
+            PooledConnection pc = idle.pollFirst();
+            if (pc == null && reserveSlot()) {
+                pc = openPhysical();
+            }
+            if (pc == null) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    borrowTimeouts.incrementAndGet();
+                    throw new SQLException("Timed out after " + borrowTimeoutMs + " ms waiting for a database connection " +
+                            "(pool size " + maxSize + ")");
+                }
+                try {
+                    pc = idle.pollFirst(remaining, TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SQLException("Interrupted while waiting for a database connection");
+                }
+                if (pc == null) continue;
+            }
+            if (!validate(pc)) {
+                validationFailures.incrementAndGet();
+                discard(pc);
+                continue;
+            }
+            long waited = System.nanoTime() - start;
+            borrowCount.incrementAndGet();
+            totalWaitNanos.addAndGet(waited);
+            updateMax(maxWaitNanos, waited);
+            return wrap(pc);
+        }
+    }
+
+    public void setSqlCapture(boolean enabled) {
+        this.captureSql = enabled;
+    }
+
+    public boolean isSqlCapture() {
+        return captureSql;
+    }
+
+    public Set<String> getCapturedSql() {
+        return new TreeSet<>(capturedSql);
+    }
+
+    public ConnectionPoolStats getStats() {
+        ConnectionPoolStats s = new ConnectionPoolStats();
+        s.totalConnections = totalConnections.get();
+        s.idleConnections = idle.size();
+        s.maxSize = maxSize;
+        s.borrowCount = borrowCount.get();
+        s.createdCount = createdCount.get();
+        s.evictedCount = evictedCount.get();
+        s.validationFailures = validationFailures.get();
+        s.borrowTimeouts = borrowTimeouts.get();
+        s.avgWaitMillis = s.borrowCount > 0 ? (totalWaitNanos.get() / (double) s.borrowCount) / 1_000_000.0 : 0.0;
+        s.maxWaitMillis = maxWaitNanos.get() / 1_000_000.0;
+        s.statementCacheHits = statementHits.get();
+        s.statementCacheMisses = statementMisses.get();
+        s.statementCacheEvictions = statementEvictions.get();
+        return s;
+    }
+
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    // Close every idle connection and stop handing out new ones
+    public void shutdown() {
+        shutdown = true;
+        evictor.shutdownNow();
+        PooledConnection pc;
+        while ((pc = idle.pollFirst()) != null) {
+            discard(pc);
+        }
+    }
+
+    // --- internals ---
+
+    private boolean reserveSlot() {
+        while (true) {
+            int current = totalConnections.get();
+            if (current >= maxSize) return false;
+            if (totalConnections.compareAndSet(current, current + 1)) return true;
+        }
+    }
+
+    private PooledConnection openPhysical() throws SQLException {
+        try {
+            Connection physical = DriverManager.getConnection(url);
+            createdCount.incrementAndGet();
+            StatementCache cache = statementCacheSize > 0
+                    ? new StatementCache(physical, statementCacheSize, statementHits, statementMisses, statementEvictions)
+                    : null;
+            return new PooledConnection(physical, cache);
+        } catch (SQLException e) {
+            totalConnections.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private boolean validate(PooledConnection pc) {
+        try {
+            return !pc.physical.isClosed() && pc.physical.isValid(validationTimeoutSec);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void discard(PooledConnection pc) {
+        totalConnections.decrementAndGet();
+        pc.closeQuietly();
+    }
+
+    private void release(PooledConnection pc) {
+        try {
+            // Leave the connection the way a fresh one looks
+            if (!pc.physical.getAutoCommit()) {
+                pc.physical.rollback();
+                pc.physical.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            discard(pc);
+            return;
+        }
+        if (shutdown) {
+            discard(pc);
+            return;
+        }
+        pc.lastUsed = System.currentTimeMillis();
+        idle.offerFirst(pc);
+    }
+
+    private void evictIdle() {
+        long cutoff = System.currentTimeMillis() - idleTimeoutMs;
+        List<PooledConnection> expired = new ArrayList<>();
+        // Oldest connections sit at the tail since release() pushes onto the head
+        Iterator<PooledConnection> it = idle.descendingIterator();
+        while (it.hasNext() && totalConnections.get() - expired.size() > minSize) {
+            PooledConnection pc = it.next();
+            if (pc.lastUsed < cutoff && idle.remove(pc)) {
+                expired.add(pc);
+            }
+        }
+        for (PooledConnection pc : expired) {
+            evictedCount.incrementAndGet();
+            discard(pc);
+        }
+    }
+
+    private Connection wrap(PooledConnection pc) {
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionPool.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionHandle(pc));
+    }
+
+    private static void updateMax(AtomicLong target, long value) {
+        long current;
+        while (value > (current = target.get())) {
+            if (target.compareAndSet(current, value)) return;
+        }
+    }
+
+    // One physical H2 connection owned by the pool, with its statement cache (may be null)
+    static class PooledConnection {
+        final Connection physical;
+        final StatementCache statements;
+        volatile long lastUsed = System.currentTimeMillis();
+
+        PooledConnection(Connection physical, StatementCache statements) {
+            this.physical = physical;
+            this.statements = statements;
+        }
+
+        void closeQuietly() {
+            if (statements != null) {
+                statements.clear();
+            }
+            try {
+                physical.close();
+            } catch (SQLException ignored) {
+                // Already broken, nothing more to do
+            }
+        }
+    }
+
+    // Logical connection given to callers; close() hands the physical connection back.
+    // Statements opened through the handle are closed with it, the same as a real close.
+    private class ConnectionHandle implements InvocationHandler {
+        private final PooledConnection pc;
+        private final List<Statement> openStatements = new ArrayList<>();
+        private boolean closed = false;
+
+        ConnectionHandle(PooledConnection pc) {
+            this.pc = pc;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        closeStatements();
+                        release(pc);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || pc.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + pc.physical + "]";
+                default:
+                    break;
+            }
+            if (closed) {
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+            Object result;
+            if (captureSql && "prepareStatement".equals(name) && args != null && args[0] instanceof String) {
+                capturedSql.add((String) args[0]);
+            }
+            if (pc.statements != null && "prepareStatement".equals(name) && isCacheable(method)) {
+                result = pc.statements.prepare((String) args[0], args.length == 2 ? (Integer) args[1] : null, (Connection) proxy);
+                openStatements.add((Statement) result);
+                return result;
+            }
+            try {
+                result = method.invoke(pc.physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (result instanceof Statement) {
+                openStatements.add((Statement) result);
+            }
+            return result;
+        }
+
+        // prepareStatement(String) and prepareStatement(String, int autoGeneratedKeys) go through the cache
+        private boolean isCacheable(Method method) {
+            Class<?>[] types = method.getParameterTypes();
+            return (types.length == 1 && types[0] == String.class)
+                    || (types.length == 2 && types[0] == String.class && types[1] == int.class);
+        }
+
+        private void closeStatements() {
+            for (Statement st : openStatements) {
+                try {
+                    st.close();
+                } catch (SQLException ignored) {
+                    // Statement already unusable; the connection is still fine
+                }
+            }
+            openStatements.clear();
+        }
+    }
+
+    /** Point-in-time snapshot of pool counters. */
+    public static class ConnectionPoolStats {
+        public int totalConnections;
+        public int idleConnections;
+        public int maxSize;
+        public long borrowCount;
+        public long createdCount;
+        public long evictedCount;
+        public long validationFailures;
+        public long borrowTimeouts;
+        public double avgWaitMillis;
+        public double maxWaitMillis;
+        public long statementCacheHits;
+        public long statementCacheMisses;
+        public long statementCacheEvictions;
+
+        public double getStatementCacheHitRate() {
+            long total = statementCacheHits + statementCacheMisses;
+            return total > 0 ? statementCacheHits / (double) total : 0.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("pool[open=%d idle=%d max=%d borrows=%d created=%d evicted=%d invalid=%d timeouts=%d avgWait=%.2fms maxWait=%.2fms " +
+                            "stmtHits=%d stmtMisses=%d stmtEvicted=%d stmtHitRate=%.1f%%]",
+                    totalConnections, idleConnections, maxSize, borrowCount, createdCount, evictedCount,
+                    validationFailures, borrowTimeouts, avgWaitMillis, maxWaitMillis,
+                    statementCacheHits, statementCacheMisses, statementCacheEvictions, getStatementCacheHitRate() * 100);
+        }
+    }
+}
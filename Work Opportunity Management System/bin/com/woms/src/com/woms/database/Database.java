@@ -1,29 +1,77 @@
 package com.woms.database;
 
+import java.io.IOException;
 import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.ToIntFunction;
 
 public class Database {
     private static final String DB_URL = "jdbc:h2:./data/srms";
 
+    // Driver availability is checked once here; getConnection() only borrows from the pool
+    private static final boolean DRIVER_AVAILABLE;
+    private static final ConnectionPool POOL;
+
+    // Reference data the applicant portal reads on every tab switch; invalidated by the write methods below
+    private static final String ALL = "*";
+    private static final ReadThroughCache<String, List<JobRecord>> JOBS_CACHE =
+            new ReadThroughCache<>("jobs", 1);
+    private static final ReadThroughCache<String, List<TrainingProgramRecord>> TRAINING_PROGRAMS_CACHE =
+            new ReadThroughCache<>("trainingPrograms", Integer.getInteger("woms.cache.trainingStatuses", 16));
+    private static final ReadThroughCache<String, List<ResourceRecord>> RESOURCES_CACHE =
+            new ReadThroughCache<>("resources", 1);
+    private static final ReadThroughCache<Integer, List<String>> JOB_SKILLS_CACHE =
+            new ReadThroughCache<>("jobSkills", Integer.getInteger("woms.cache.jobSkills", 512));
+
     static {
+        boolean found = false;
         try {
             Class.forName("org.h2.Driver");
+            found = true;
             System.out.println("H2 JDBC driver loaded successfully.");
         } catch (ClassNotFoundException e) {
-            System.err.println("==========================================");
-            System.err.println("WARNING: H2 JDBC driver not found!");
-            System.err.println("==========================================");
-            System.err.println("The driver will be attempted to load at runtime.");
-            System.err.println("If you get 'No suitable driver' error, make sure");
-            System.err.println("h2-1.4.200.jar (Java 8 compatible) is in your classpath.");
-            System.err.println("==========================================");
+            // Try to check if driver is already registered
+            java.util.Enumeration<Driver> drivers = DriverManager.getDrivers();
+            while (drivers.hasMoreElements()) {
+                if (drivers.nextElement().getClass().getName().equals("org.h2.Driver")) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                System.err.println("==========================================");
+                System.err.println("WARNING: H2 JDBC driver not found!");
+                System.err.println("==========================================");
+                System.err.println("If you get 'No suitable driver' error, make sure");
+                System.err.println("h2-1.4.200.jar (Java 8 compatible) is in your classpath.");
+                System.err.println("==========================================");
+            }
         }
+        DRIVER_AVAILABLE = found;
+        POOL = ConnectionPool.fromSystemProperties(DB_URL);
+        Runtime.getRuntime().addShutdownHook(new Thread(Database::shutdown, "woms-db-shutdown"));
     }
 
-    // Start H2 web console server
-    public static void startWebConsole() {
+    private static boolean webConsoleStarted;
+
+    // Start H2 web console server; on demand only (see Main), and at most once
+    public static synchronized void startWebConsole() {
+        if (webConsoleStarted) return;
+        webConsoleStarted = true;
         try {
             // Start H2 web server on port 8082 (H2 1.4.200 syntax)
             // Using reflection to avoid compile-time dependency issues
@@ -49,176 +97,27 @@ public class Database {
         }
     }
 
-    // initialize DB and tables
+    // initialize DB and tables, then mirror the users into accounts.txt
     public static void init() {
-        try (Connection conn = getConnection(); Statement s = conn.createStatement()) {
-            // Migrate from email to username if old schema exists (do this FIRST before creating tables)
-            try (ResultSet tables = conn.getMetaData().getTables(null, null, "USERS", null)) {
-                if (tables.next()) {
-                    try (ResultSet columns = conn.getMetaData().getColumns(null, null, "USERS", "EMAIL")) {
-                        if (columns.next()) {
-                            System.out.println("Detected old schema with email column. Migrating to username...");
-                            
-                            // Disable foreign key checks
-                            s.execute("SET REFERENTIAL_INTEGRITY FALSE");
-                            
-                            // Backup old data
-                            s.execute("CREATE TABLE users_backup AS SELECT * FROM users");
-                            
-                            // Drop dependent tables first (they will be recreated later)
-                            try {
-                                s.execute("DROP TABLE IF EXISTS household_members");
-                                s.execute("DROP TABLE IF EXISTS persons");
-                                s.execute("DROP TABLE IF EXISTS applications");
-                                s.execute("DROP TABLE IF EXISTS applicant_needs");
-                                s.execute("DROP TABLE IF EXISTS applicant_skills");
-                                s.execute("DROP TABLE IF EXISTS training_enrollments");
-                                s.execute("DROP TABLE IF EXISTS employment_status");
-                            } catch (SQLException ex) {
-                                // Some tables might not exist, that's okay
-                            }
-                            
-                            // Drop and recreate users table
-                            s.execute("DROP TABLE users");
-                            s.execute("CREATE TABLE users(" +
-                                    "user_id INTEGER PRIMARY KEY AUTO_INCREMENT, " +
-                                    "username VARCHAR(255) UNIQUE, password VARCHAR(255), role VARCHAR(50))");
-                            
-                            // Migrate data (use email as username)
-                            try {
-                                s.execute("INSERT INTO users(user_id, username, password, role) " +
-                                        "SELECT user_id, email, password, role FROM users_backup");
-                                System.out.println("Data migrated successfully!");
-                            } catch (SQLException ex) {
-                                System.out.println("Migration note: " + ex.getMessage());
-                            }
-                            
-                            // Drop backup
-                            s.execute("DROP TABLE users_backup");
-                            
-                            // Re-enable foreign key checks
-                            s.execute("SET REFERENTIAL_INTEGRITY TRUE");
-                            System.out.println("Migration completed!");
-                        }
-                    }
-                }
-            } catch (SQLException e) {
-                // No migration needed or table doesn't exist yet
-                System.out.println("Schema check: " + e.getMessage());
-            }
-            
-            // Enable foreign key constraints for H2
-            s.execute("SET REFERENTIAL_INTEGRITY TRUE");
-            
-            // users
-            s.execute("CREATE TABLE IF NOT EXISTS users(" +
-                    "user_id INTEGER PRIMARY KEY AUTO_INCREMENT, " +
-                    "username VARCHAR(255) UNIQUE, password VARCHAR(255), role VARCHAR(50))");
-            // persons
-            s.execute("CREATE TABLE IF NOT EXISTS persons(" +
-                    "person_id INTEGER PRIMARY KEY AUTO_INCREMENT, " +
-                    "user_id INTEGER, name VARCHAR(255), age INTEGER, phone VARCHAR(50), " +
-                    "FOREIGN KEY(user_id) REFERENCES users(user_id))");
-            // jobs
-            s.execute("CREATE TABLE IF NOT EXISTS jobs(" +
-                    "job_id INTEGER PRIMARY KEY AUTO_INCREMENT, title VARCHAR(255), description VARCHAR(1000), salary DOUBLE)");
-            // applications
-            s.execute("CREATE TABLE IF NOT EXISTS applications(" +
-                    "application_id INTEGER PRIMARY KEY AUTO_INCREMENT, job_id INTEGER, applicant_id INTEGER, status VARCHAR(50), " +
-                    "first_name VARCHAR(255), middle_name VARCHAR(255), last_name VARCHAR(255), gender VARCHAR(50), " +
-                    "age INTEGER, address VARCHAR(500), experience VARCHAR(2000), submission_date VARCHAR(255), " +
-                    "FOREIGN KEY(job_id) REFERENCES jobs(job_id), FOREIGN KEY(applicant_id) REFERENCES users(user_id))");
-            // Add submission_date column to existing tables if it doesn't exist
-            try {
-                s.execute("ALTER TABLE applications ADD COLUMN submission_date VARCHAR(255)");
-            } catch (SQLException e) {
-                // Column already exists, ignore
-            }
-            // households
-            s.execute("CREATE TABLE IF NOT EXISTS households(" +
-                    "household_id INTEGER PRIMARY KEY AUTO_INCREMENT, name VARCHAR(255), address VARCHAR(500))");
-            // household_members
-            s.execute("CREATE TABLE IF NOT EXISTS household_members(" +
-                    "household_id INTEGER, applicant_id INTEGER, " +
-                    "PRIMARY KEY(household_id, applicant_id), " +
-                    "FOREIGN KEY(household_id) REFERENCES households(household_id), FOREIGN KEY(applicant_id) REFERENCES users(user_id))");
-            // resources
-            s.execute("CREATE TABLE IF NOT EXISTS resources(" +
-                    "resource_id INTEGER PRIMARY KEY AUTO_INCREMENT, name VARCHAR(255), quantity INTEGER)");
-            // simulations
-            s.execute("CREATE TABLE IF NOT EXISTS simulations(" +
-                    "simulation_id INTEGER PRIMARY KEY AUTO_INCREMENT, description VARCHAR(1000), run_at VARCHAR(255), results VARCHAR(5000))");
-            // applicant_needs
-            s.execute("CREATE TABLE IF NOT EXISTS applicant_needs(" +
-                    "need_id INTEGER PRIMARY KEY AUTO_INCREMENT, applicant_id INTEGER, need_description VARCHAR(1000), " +
-                    "category VARCHAR(100), status VARCHAR(50), submitted_date VARCHAR(255), " +
-                    "FOREIGN KEY(applicant_id) REFERENCES users(user_id))");
-            // applicant_skills
-            s.execute("CREATE TABLE IF NOT EXISTS applicant_skills(" +
-                    "skill_id INTEGER PRIMARY KEY AUTO_INCREMENT, applicant_id INTEGER, skill_name VARCHAR(255), " +
-                    "skill_level VARCHAR(50), FOREIGN KEY(applicant_id) REFERENCES users(user_id))");
-            // training_programs
-            s.execute("CREATE TABLE IF NOT EXISTS training_programs(" +
-                    "program_id INTEGER PRIMARY KEY AUTO_INCREMENT, title VARCHAR(255), description VARCHAR(1000), " +
-                    "duration_days INTEGER, skills_taught VARCHAR(500), status VARCHAR(50))");
-            // training_enrollments
-            s.execute("CREATE TABLE IF NOT EXISTS training_enrollments(" +
-                    "enrollment_id INTEGER PRIMARY KEY AUTO_INCREMENT, applicant_id INTEGER, program_id INTEGER, " +
-                    "enrollment_date VARCHAR(255), completion_date VARCHAR(255), status VARCHAR(50), " +
-                    "FOREIGN KEY(applicant_id) REFERENCES users(user_id), FOREIGN KEY(program_id) REFERENCES training_programs(program_id))");
-            // employment_status
-            s.execute("CREATE TABLE IF NOT EXISTS employment_status(" +
-                    "employment_id INTEGER PRIMARY KEY AUTO_INCREMENT, applicant_id INTEGER, job_id INTEGER, " +
-                    "start_date VARCHAR(255), end_date VARCHAR(255), monthly_income DOUBLE, status VARCHAR(50), " +
-                    "FOREIGN KEY(applicant_id) REFERENCES users(user_id), FOREIGN KEY(job_id) REFERENCES jobs(job_id))");
-            // job_required_skills
-            s.execute("CREATE TABLE IF NOT EXISTS job_required_skills(" +
-                    "job_id INTEGER, skill_name VARCHAR(255), " +
-                    "PRIMARY KEY(job_id, skill_name), FOREIGN KEY(job_id) REFERENCES jobs(job_id))");
-            // attendance
-            s.execute("CREATE TABLE IF NOT EXISTS attendance(" +
-                    "attendance_id INTEGER PRIMARY KEY AUTO_INCREMENT, applicant_id INTEGER, " +
-                    "date VARCHAR(255), time_in VARCHAR(255), time_out VARCHAR(255), " +
-                    "status VARCHAR(50), hours_worked DOUBLE, " +
-                    "FOREIGN KEY(applicant_id) REFERENCES users(user_id))");
-            // interviews
-            s.execute("CREATE TABLE IF NOT EXISTS interviews(" +
-                    "interview_id INTEGER PRIMARY KEY AUTO_INCREMENT, application_id INTEGER, applicant_id INTEGER, job_id INTEGER, " +
-                    "interview_date VARCHAR(255), interview_time VARCHAR(255), status VARCHAR(50), notes VARCHAR(1000), " +
-                    "created_date VARCHAR(255), " +
-                    "FOREIGN KEY(application_id) REFERENCES applications(application_id), " +
-                    "FOREIGN KEY(applicant_id) REFERENCES users(user_id), " +
-                    "FOREIGN KEY(job_id) REFERENCES jobs(job_id))");
-
-            // Always remove IT jobs that don't align with poverty reduction project
-            // This runs every time the application starts to ensure no IT jobs remain
-            try {
-                // Delete IT jobs by title
-                try (PreparedStatement delJobs = conn.prepareStatement("DELETE FROM jobs WHERE title IN (?, ?, ?, ?, ?, ?)")) {
-                    delJobs.setString(1, "Software Developer");
-                    delJobs.setString(2, "Data Analyst");
-                    delJobs.setString(3, "Project Manager");
-                    delJobs.setString(4, "UI/UX Designer");
-                    delJobs.setString(5, "Database Administrator");
-                    delJobs.setString(6, "Network Engineer");
-                    int deleted = delJobs.executeUpdate();
-                    if (deleted > 0) {
-                        System.out.println("Removed " + deleted + " IT job(s) that don't align with poverty reduction project.");
-                    }
-                }
-                
-                // Also delete any jobs with high salaries (likely IT jobs) - salaries above 50000 are likely IT
-                try (PreparedStatement delHighSalary = conn.prepareStatement("DELETE FROM jobs WHERE salary > 50000")) {
-                    int deletedHigh = delHighSalary.executeUpdate();
-                    if (deletedHigh > 0) {
-                        System.out.println("Removed " + deletedHigh + " high-salary job(s) (likely IT jobs).");
-                    }
-                }
-            } catch (SQLException e) {
-                // Ignore if jobs table doesn't exist yet
-                System.out.println("Note: Could not delete IT jobs - " + e.getMessage());
+        if (initSchema()) {
+            syncAccountsFile();
+        }
+    }
+
+    /**
+     * Schema migrations and the default admin; the part of init() later startup work
+     * depends on. Returns false when the database is unreachable (the app then runs offline).
+     */
+    public static boolean initSchema() {
+        try (Connection conn = getConnection()) {
+            POOL.warmUp();
+            // Versioned schema migrations; a single version read when the schema is current
+            SchemaMigrator.migrate(conn);
+            // Record SQL for the index advisor only from here on, so migration statements stay out of it
+            if (Boolean.getBoolean("woms.db.indexAdvisor")) {
+                POOL.setSqlCapture(true);
             }
-            
+
             // ensure default admin exists
             try (PreparedStatement ps = conn.prepareStatement("SELECT user_id FROM users WHERE username = ?")) {
                 ps.setString(1, "teammad");
@@ -233,76 +132,198 @@ public class Database {
                     }
                 }
             }
-
-            // After ensuring users table and default admin, export all accounts to accounts.txt
-            try {
-                AccountStorage.syncFromDatabase();
-            } catch (Exception ex) {
-                System.err.println("Warning: could not sync accounts to accounts.txt: " + ex.getMessage());
-            }
+            return true;
         } catch (SQLException e) {
             System.err.println("Database initialization error: " + e.getMessage());
             // Allow application to continue in offline mode using AccountStorage backup
             System.err.println("Continuing in offline mode. H2 features will be unavailable until the database is reachable.");
+            return false;
         }
     }
 
-    // Ensure poverty reduction jobs always exist (called on every startup)
-    // This method DELETES ALL existing jobs and recreates ONLY poverty reduction jobs
+    // After ensuring users table and default admin, export all accounts to accounts.txt
+    public static void syncAccountsFile() {
+        try {
+            AccountStorage.syncFromDatabase();
+        } catch (Exception ex) {
+            System.err.println("Warning: could not sync accounts to accounts.txt: " + ex.getMessage());
+        }
+    }
+
+    // IT jobs from early versions that don't align with the poverty reduction project
+    private static final List<String> RETIRED_JOB_TITLES = Arrays.asList(
+            "Software Developer", "Data Analyst", "Project Manager",
+            "UI/UX Designer", "Database Administrator", "Network Engineer");
+
+    // Make the jobs table match the job catalog (called on every startup); applications and
+    // employment records are left alone
     public static void ensurePovertyReductionJobs() {
         try (Connection conn = getConnection()) {
-            // Delete ALL existing jobs first (clean slate approach)
-            try (Statement delAll = conn.createStatement()) {
-                // First delete related data
-                delAll.executeUpdate("DELETE FROM job_required_skills");
-                delAll.executeUpdate("DELETE FROM applications");
-                delAll.executeUpdate("DELETE FROM employment_status");
-                // Then delete all jobs
-                int deleted = delAll.executeUpdate("DELETE FROM jobs");
-                if (deleted > 0) {
-                    System.out.println("Removed " + deleted + " existing job(s) to ensure clean slate.");
+            reconcileJobCatalog(conn);
+        } catch (SQLException e) {
+            System.err.println("Error ensuring poverty reduction jobs: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Diff povertyReductionJobs() against the jobs table by title and fix only the differences,
+     * in one transaction: missing catalog jobs are inserted, ones whose description or salary drifted
+     * are updated, and retired titles and duplicate copies of a catalog job are deleted unless an
+     * application, interview or employment record still points at them. When the table already
+     * matches this is a single SELECT. Returns the job id of every catalog title.
+     */
+    private static Map<String, Integer> reconcileJobCatalog(Connection conn) throws SQLException {
+        Map<String, JobRecord> catalog = new LinkedHashMap<>();
+        for (JobRecord j : povertyReductionJobs()) catalog.put(j.title, j);
+
+        // Current rows for every catalog or retired title, oldest first
+        Map<String, JobRecord> current = new HashMap<>();
+        List<Integer> remove = new ArrayList<>();
+        List<String> titles = new ArrayList<>(catalog.keySet());
+        titles.addAll(RETIRED_JOB_TITLES);
+        try (PreparedStatement s = conn.prepareStatement(
+                "SELECT job_id,title,description,salary FROM jobs WHERE title IN (" + placeholders(titles.size()) + ") ORDER BY job_id")) {
+            for (int i = 0; i < titles.size(); i++) s.setString(i + 1, titles.get(i));
+            try (ResultSet rs = s.executeQuery()) {
+                while (rs.next()) {
+                    JobRecord j = new JobRecord();
+                    j.id = rs.getInt(1); j.title = rs.getString(2); j.description = rs.getString(3); j.salary = rs.getDouble(4);
+                    // Retired titles go, and so do later copies of a catalog job (older versions
+                    // inserted the catalog twice); the lowest id of each catalog title stays
+                    if (!catalog.containsKey(j.title) || current.putIfAbsent(j.title, j) != null) {
+                        remove.add(j.id);
+                    }
                 }
-            } catch (SQLException e) {
-                System.out.println("Note: " + e.getMessage());
             }
-            
-            // Now create ONLY the 10 poverty reduction jobs
-            System.out.println("Creating poverty reduction jobs...");
-            createJob("Construction Worker", "General construction work including building, renovation, and maintenance tasks. No experience required, training provided. Helps provide stable income for families.", 25000.0);
-            createJob("Farm Laborer", "Agricultural work including planting, harvesting, and farm maintenance. Suitable for rural communities. Provides livelihood opportunities in agriculture sector.", 20000.0);
-            createJob("Food Service Worker", "Work in restaurants, cafes, or food preparation areas. Entry-level position with on-the-job training. Helps individuals gain work experience and earn income.", 22000.0);
-            createJob("Housekeeping Staff", "Cleaning and maintenance work in hotels, offices, or residential areas. Flexible schedule available. Provides employment opportunities for those seeking stable work.", 20000.0);
-            createJob("Security Guard", "Provide security services and monitor premises. Training provided. Offers stable employment with regular income to support families.", 23000.0);
-            createJob("Delivery Driver", "Deliver goods and packages to customers. Own vehicle preferred but not required. Flexible work schedule. Helps individuals earn income through delivery services.", 22000.0);
-            createJob("Street Vendor Assistant", "Assist in street vending operations, selling goods in markets or streets. Learn business skills while earning income. Suitable for those starting their livelihood journey.", 18000.0);
-            createJob("Warehouse Worker", "Handle inventory, packing, and shipping in warehouse facilities. Physical work, no prior experience needed. Provides employment for able-bodied individuals seeking work.", 21000.0);
-            createJob("Caregiver", "Provide care and assistance to elderly or persons with disabilities. Compassionate work that helps others while earning income. Training and support provided.", 24000.0);
-            createJob("Laundry Worker", "Operate laundry machines, fold clothes, and manage laundry services. Simple tasks, suitable for various skill levels. Provides steady employment opportunity.", 19000.0);
-            System.out.println("All 10 poverty reduction jobs created successfully!");
+        }
+        // Rows that applications, interviews or employment records point at are kept
+        if (!remove.isEmpty()) remove.retainAll(unreferencedJobs(conn, remove));
+
+        List<JobRecord> add = new ArrayList<>();
+        List<JobRecord> update = new ArrayList<>();
+        for (JobRecord want : catalog.values()) {
+            JobRecord have = current.get(want.title);
+            if (have == null) {
+                add.add(want);
+            } else if (!Objects.equals(have.description, want.description) || have.salary != want.salary) {
+                want.id = have.id;
+                update.add(want);
+            }
+        }
+
+        Map<String, Integer> ids = new HashMap<>();
+        for (JobRecord have : current.values()) ids.put(have.title, have.id);
+        if (add.isEmpty() && update.isEmpty() && remove.isEmpty()) {
+            System.out.println("Job catalog up to date (" + catalog.size() + " jobs).");
+            return ids;
+        }
+
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try {
+            if (!remove.isEmpty()) {
+                try (PreparedStatement skills = conn.prepareStatement("DELETE FROM job_required_skills WHERE job_id=?");
+                     PreparedStatement jobs = conn.prepareStatement("DELETE FROM jobs WHERE job_id=?")) {
+                    for (int id : remove) {
+                        skills.setInt(1, id); skills.addBatch();
+                        jobs.setInt(1, id); jobs.addBatch();
+                    }
+                    skills.executeBatch();
+                    jobs.executeBatch();
+                }
+            }
+            if (!update.isEmpty()) {
+                try (PreparedStatement p = conn.prepareStatement("UPDATE jobs SET description=?, salary=? WHERE job_id=?")) {
+                    for (JobRecord j : update) {
+                        p.setString(1, j.description); p.setDouble(2, j.salary); p.setInt(3, j.id);
+                        p.addBatch();
+                    }
+                    p.executeBatch();
+                }
+            }
+            if (!add.isEmpty()) {
+                try (PreparedStatement p = conn.prepareStatement("INSERT INTO jobs(title,description,salary) VALUES(?,?,?)", Statement.RETURN_GENERATED_KEYS)) {
+                    for (JobRecord j : add) {
+                        p.setString(1, j.title); p.setString(2, j.description); p.setDouble(3, j.salary);
+                        p.addBatch();
+                    }
+                    p.executeBatch();
+                    List<Integer> keys = generatedKeys(p);
+                    for (int k = 0; k < add.size(); k++) ids.put(add.get(k).title, keys.get(k));
+                }
+            }
+            conn.commit();
         } catch (SQLException e) {
-            System.err.println("Error ensuring poverty reduction jobs: " + e.getMessage());
+            // Restoring auto-commit below would commit a half-applied catalog; undo it first
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+        JOBS_CACHE.invalidateAll();
+        JOB_SKILLS_CACHE.invalidateAll();
+        ChangeEventBus.publish(ChangeEvent.bulk(ChangeEvent.Entity.JOB));
+        System.out.println("Job catalog reconciled: " + add.size() + " added, " + update.size() + " updated, "
+                + remove.size() + " removed.");
+        return ids;
+    }
+
+    // Of these job ids, the ones no application, interview or employment record refers to
+    private static Set<Integer> unreferencedJobs(Connection conn, List<Integer> jobIds) throws SQLException {
+        Set<Integer> free = new HashSet<>();
+        try (PreparedStatement s = conn.prepareStatement(
+                "SELECT job_id FROM jobs j WHERE job_id IN (" + placeholders(jobIds.size()) + ") " +
+                "AND NOT EXISTS(SELECT 1 FROM applications a WHERE a.job_id=j.job_id) " +
+                "AND NOT EXISTS(SELECT 1 FROM interviews i WHERE i.job_id=j.job_id) " +
+                "AND NOT EXISTS(SELECT 1 FROM employment_status e WHERE e.job_id=j.job_id)")) {
+            for (int i = 0; i < jobIds.size(); i++) s.setInt(i + 1, jobIds.get(i));
+            try (ResultSet rs = s.executeQuery()) {
+                while (rs.next()) free.add(rs.getInt(1));
+            }
         }
+        return free;
+    }
+    
+    // The job catalog: the entry-level jobs the program offers, matched to the jobs table by title
+    private static List<JobRecord> povertyReductionJobs() {
+        List<JobRecord> jobs = new ArrayList<>();
+        jobs.add(job("Construction Worker", "General construction work including building, renovation, and maintenance tasks. No experience required, training provided. Helps provide stable income for families.", 25000.0));
+        jobs.add(job("Farm Laborer", "Agricultural work including planting, harvesting, and farm maintenance. Suitable for rural communities. Provides livelihood opportunities in agriculture sector.", 20000.0));
+        jobs.add(job("Food Service Worker", "Work in restaurants, cafes, or food preparation areas. Entry-level position with on-the-job training. Helps individuals gain work experience and earn income.", 22000.0));
+        jobs.add(job("Housekeeping Staff", "Cleaning and maintenance work in hotels, offices, or residential areas. Flexible schedule available. Provides employment opportunities for those seeking stable work.", 20000.0));
+        jobs.add(job("Security Guard", "Provide security services and monitor premises. Training provided. Offers stable employment with regular income to support families.", 23000.0));
+        jobs.add(job("Delivery Driver", "Deliver goods and packages to customers. Own vehicle preferred but not required. Flexible work schedule. Helps individuals earn income through delivery services.", 22000.0));
+        jobs.add(job("Street Vendor Assistant", "Assist in street vending operations, selling goods in markets or streets. Learn business skills while earning income. Suitable for those starting their livelihood journey.", 18000.0));
+        jobs.add(job("Warehouse Worker", "Handle inventory, packing, and shipping in warehouse facilities. Physical work, no prior experience needed. Provides employment for able-bodied individuals seeking work.", 21000.0));
+        jobs.add(job("Caregiver", "Provide care and assistance to elderly or persons with disabilities. Compassionate work that helps others while earning income. Training and support provided.", 24000.0));
+        jobs.add(job("Laundry Worker", "Operate laundry machines, fold clothes, and manage laundry services. Simple tasks, suitable for various skill levels. Provides steady employment opportunity.", 19000.0));
+        return jobs;
+    }
+    
+    private static JobRecord job(String title, String description, double salary) {
+        JobRecord j = new JobRecord();
+        j.title = title; j.description = description; j.salary = salary;
+        return j;
+    }
+    
+    private static ApplicationRecord application(int applicantId, int jobId, String firstName, String middleName, String lastName,
+                                                 String gender, int age, String address, String experience) {
+        ApplicationRecord a = new ApplicationRecord();
+        a.applicantId = applicantId; a.jobId = jobId;
+        a.firstName = firstName; a.middleName = middleName; a.lastName = lastName;
+        a.gender = gender; a.age = age; a.address = address; a.experience = experience;
+        return a;
+    }
+    
+    private static ResourceRecord resource(String name, int quantity) {
+        ResourceRecord r = new ResourceRecord();
+        r.name = name; r.quantity = quantity;
+        return r;
     }
     
     // Seed sample data for all tables
     public static void seedSampleData() {
         try (Connection conn = getConnection()) {
-            // Always clean up old IT jobs first (remove IT-related jobs that don't align with poverty reduction)
-            try (PreparedStatement delJobs = conn.prepareStatement("DELETE FROM jobs WHERE title IN (?, ?, ?, ?, ?, ?)")) {
-                delJobs.setString(1, "Software Developer");
-                delJobs.setString(2, "Data Analyst");
-                delJobs.setString(3, "Project Manager");
-                delJobs.setString(4, "UI/UX Designer");
-                delJobs.setString(5, "Database Administrator");
-                delJobs.setString(6, "Network Engineer");
-                int deleted = delJobs.executeUpdate();
-                if (deleted > 0) {
-                    System.out.println("Removed " + deleted + " old IT job(s) from database.");
-                }
-            } catch (SQLException e) {
-                // Ignore if error occurs
-            }
-            
             // Check if data already exists
             try (PreparedStatement check = conn.prepareStatement("SELECT COUNT(*) FROM users WHERE role = 'APPLICANT'");
                  ResultSet rs = check.executeQuery()) {
@@ -321,73 +342,31 @@ public class Database {
             int app4 = createApplicant("carlos_reyes", "password123", "Carlos Reyes", 38, "555-0104");
             int app5 = createApplicant("ana_torres", "password123", "Ana Torres", 31, "555-0105");
 
-            // Delete old IT jobs if they exist (clean up old data)
-            try (PreparedStatement delJobs = conn.prepareStatement("DELETE FROM jobs WHERE title IN (?, ?, ?, ?, ?, ?)")) {
-                delJobs.setString(1, "Software Developer");
-                delJobs.setString(2, "Data Analyst");
-                delJobs.setString(3, "Project Manager");
-                delJobs.setString(4, "UI/UX Designer");
-                delJobs.setString(5, "Database Administrator");
-                delJobs.setString(6, "Network Engineer");
-                delJobs.executeUpdate();
-            } catch (SQLException e) {
-                // Ignore if table doesn't exist or no IT jobs found
-            }
-            
-            // Delete all existing jobs to ensure clean slate (optional - comment out if you want to keep manually added jobs)
-            // Uncomment the next line if you want to remove ALL existing jobs and start fresh
-            // try (Statement delAll = conn.createStatement()) { delAll.executeUpdate("DELETE FROM jobs"); }
-            
-            // Create poverty reduction jobs - ONLY these jobs should exist
-            // Entry-level jobs that provide income opportunities for vulnerable populations
-            System.out.println("Creating: Construction Worker");
-            int job1 = createJob("Construction Worker", "General construction work including building, renovation, and maintenance tasks. No experience required, training provided. Helps provide stable income for families.", 25000.0);
-            
-            System.out.println("Creating: Farm Laborer");
-            int job2 = createJob("Farm Laborer", "Agricultural work including planting, harvesting, and farm maintenance. Suitable for rural communities. Provides livelihood opportunities in agriculture sector.", 20000.0);
-            
-            System.out.println("Creating: Food Service Worker");
-            int job3 = createJob("Food Service Worker", "Work in restaurants, cafes, or food preparation areas. Entry-level position with on-the-job training. Helps individuals gain work experience and earn income.", 22000.0);
-            
-            System.out.println("Creating: Housekeeping Staff");
-            int job4 = createJob("Housekeeping Staff", "Cleaning and maintenance work in hotels, offices, or residential areas. Flexible schedule available. Provides employment opportunities for those seeking stable work.", 20000.0);
-            
-            System.out.println("Creating: Security Guard");
-            int job5 = createJob("Security Guard", "Provide security services and monitor premises. Training provided. Offers stable employment with regular income to support families.", 23000.0);
-            
-            System.out.println("Creating: Delivery Driver");
-            int job6 = createJob("Delivery Driver", "Deliver goods and packages to customers. Own vehicle preferred but not required. Flexible work schedule. Helps individuals earn income through delivery services.", 22000.0);
-            
-            System.out.println("Creating: Street Vendor Assistant");
-            int job7 = createJob("Street Vendor Assistant", "Assist in street vending operations, selling goods in markets or streets. Learn business skills while earning income. Suitable for those starting their livelihood journey.", 18000.0);
-            
-            System.out.println("Creating: Warehouse Worker");
-            int job8 = createJob("Warehouse Worker", "Handle inventory, packing, and shipping in warehouse facilities. Physical work, no prior experience needed. Provides employment for able-bodied individuals seeking work.", 21000.0);
-            
-            System.out.println("Creating: Caregiver");
-            int job9 = createJob("Caregiver", "Provide care and assistance to elderly or persons with disabilities. Compassionate work that helps others while earning income. Training and support provided.", 24000.0);
-            
-            System.out.println("Creating: Laundry Worker");
-            int job10 = createJob("Laundry Worker", "Operate laundry machines, fold clothes, and manage laundry services. Simple tasks, suitable for various skill levels. Provides steady employment opportunity.", 19000.0);
-            
-            System.out.println("All 10 poverty reduction jobs created successfully!");
+            // The applications below use jobs from the catalog, which is in place by now (or put in place here)
+            Map<String, Integer> catalog = reconcileJobCatalog(conn);
+            List<Integer> jobIds = new ArrayList<>();
+            for (JobRecord j : povertyReductionJobs()) jobIds.add(catalog.get(j.title));
+            int job1 = jobIds.get(0), job2 = jobIds.get(1), job3 = jobIds.get(2), job4 = jobIds.get(3);
+            int job5 = jobIds.get(4), job6 = jobIds.get(5);
 
             // Create applications with personal details
-            createApplication(app1, job1, "Maria", "Santos", "Santos", "Female", 35, "123 Barangay Street, City", "3 years construction experience");
-            createApplication(app1, job3, "Maria", "Santos", "Santos", "Female", 35, "123 Barangay Street, City", "2 years food service");
-            createApplication(app2, job2, "Juan", "Dela", "Cruz", "Male", 42, "456 Rural Road, Province", "10 years farming experience");
-            createApplication(app2, job6, "Juan", "Dela", "Cruz", "Male", 42, "456 Rural Road, Province", "5 years driving experience");
-            createApplication(app3, job4, "Rosa", "", "Garcia", "Female", 28, "789 Village Lane, City", "2 years housekeeping");
-            createApplication(app4, job5, "Carlos", "Reyes", "Reyes", "Male", 38, "321 Community Ave, City", "4 years security work");
-            createApplication(app5, job3, "Ana", "Torres", "Torres", "Female", 31, "654 Neighborhood St, City", "3 years food service");
-            createApplication(app3, job1, "Rosa", "", "Garcia", "Female", 28, "789 Village Lane, City", "1 year construction");
+            List<ApplicationRecord> apps = new ArrayList<>();
+            apps.add(application(app1, job1, "Maria", "Santos", "Santos", "Female", 35, "123 Barangay Street, City", "3 years construction experience"));
+            apps.add(application(app1, job3, "Maria", "Santos", "Santos", "Female", 35, "123 Barangay Street, City", "2 years food service"));
+            apps.add(application(app2, job2, "Juan", "Dela", "Cruz", "Male", 42, "456 Rural Road, Province", "10 years farming experience"));
+            apps.add(application(app2, job6, "Juan", "Dela", "Cruz", "Male", 42, "456 Rural Road, Province", "5 years driving experience"));
+            apps.add(application(app3, job4, "Rosa", "", "Garcia", "Female", 28, "789 Village Lane, City", "2 years housekeeping"));
+            apps.add(application(app4, job5, "Carlos", "Reyes", "Reyes", "Male", 38, "321 Community Ave, City", "4 years security work"));
+            apps.add(application(app5, job3, "Ana", "Torres", "Torres", "Female", 31, "654 Neighborhood St, City", "3 years food service"));
+            apps.add(application(app3, job1, "Rosa", "", "Garcia", "Female", 28, "789 Village Lane, City", "1 year construction"));
+            List<Integer> appIds = createApplications(apps);
             
             // Note: job7, job8, job9, job10 are available for future use
 
             // Update some application statuses
-            updateApplicationStatus(1, "APPROVED"); // Maria's Construction Worker app approved
-            updateApplicationStatus(3, "APPROVED"); // Juan's Farm Laborer app approved
-            updateApplicationStatus(5, "PENDING"); // Rosa's Housekeeping app pending
+            updateApplicationStatus(appIds.get(0), "APPROVED"); // Maria's Construction Worker app approved
+            updateApplicationStatus(appIds.get(2), "APPROVED"); // Juan's Farm Laborer app approved
+            updateApplicationStatus(appIds.get(4), "PENDING"); // Rosa's Housekeeping app pending
 
             // Create households
             int hh1 = createHousehold("Santos Family", "123 Barangay Street, City");
@@ -401,17 +380,19 @@ public class Database {
             addHouseholdMember(hh1, app4); // Carlos Reyes also in Santos Family
 
             // Create resources - Basic necessities and aid resources
-            createResource("Rice (50kg bags)", 100);
-            createResource("Canned Goods", 500);
-            createResource("Clothing (sets)", 200);
-            createResource("Blankets", 150);
-            createResource("Hygiene Kits", 300);
-            createResource("School Supplies", 250);
-            createResource("Medical Supplies", 100);
-            createResource("Water Containers", 80);
+            List<ResourceRecord> resources = new ArrayList<>();
+            resources.add(resource("Rice (50kg bags)", 100));
+            resources.add(resource("Canned Goods", 500));
+            resources.add(resource("Clothing (sets)", 200));
+            resources.add(resource("Blankets", 150));
+            resources.add(resource("Hygiene Kits", 300));
+            resources.add(resource("School Supplies", 250));
+            resources.add(resource("Medical Supplies", 100));
+            resources.add(resource("Water Containers", 80));
+            createResources(resources);
 
             // Create simulations
-            String now = java.time.LocalDateTime.now().toString();
+            LocalDateTime now = LocalDateTime.now();
             createSimulation("Initial System Analysis", now, "Total applicants: 5, Total jobs: 6, Pending applications: 4");
             createSimulation("Resource Allocation Check", now, "Resources available: 8 types, Total items: 1680");
 
@@ -422,29 +403,12 @@ public class Database {
     }
 
     public static Connection getConnection() throws SQLException {
+        if (!DRIVER_AVAILABLE) {
+            throw new SQLException("H2 JDBC driver not found in classpath. " +
+                "Please ensure h2-1.4.200.jar (Java 8 compatible) is included when running the application.");
+        }
         try {
-            // Try multiple methods to ensure driver is loaded
-            try {
-                Class.forName("org.h2.Driver");
-            } catch (ClassNotFoundException e) {
-                // Try to check if driver is already registered
-                java.util.Enumeration<Driver> drivers = DriverManager.getDrivers();
-                boolean found = false;
-                while (drivers.hasMoreElements()) {
-                    Driver driver = drivers.nextElement();
-                    if (driver.getClass().getName().equals("org.h2.Driver")) {
-                        found = true;
-                        break;
-                    }
-                }
-                if (!found) {
-                    throw new SQLException("H2 JDBC driver not found in classpath. " +
-                        "Please ensure h2-1.4.200.jar (Java 8 compatible) is included when running the application.");
-                }
-            }
-            
-            Connection conn = DriverManager.getConnection(DB_URL);
-            return conn;
+            return POOL.borrow();
         } catch (SQLException e) {
             if (e.getMessage() != null && e.getMessage().contains("No suitable driver")) {
                 System.err.println("==========================================");
@@ -467,6 +431,65 @@ public class Database {
         }
     }
 
+    // Connection pool counters (borrows, waits, timeouts, evictions) for diagnostics
+    public static ConnectionPool.ConnectionPoolStats getPoolStats() {
+        return POOL.getStats();
+    }
+
+    // Most connections that can be in use at once; AsyncDatabase sizes its workers to match
+    public static int getPoolMaxSize() {
+        return POOL.getMaxSize();
+    }
+
+    // How long a caller may wait for a free connection before giving up
+    public static long getPoolBorrowTimeoutMs() {
+        return POOL.getBorrowTimeoutMs();
+    }
+
+    /**
+     * EXPLAIN every statement recorded since the schema was migrated (needs -Dwoms.db.indexAdvisor=true)
+     * and print which ones still scan whole tables.
+     */
+    public static List<IndexAdvisor.Finding> runIndexAdvisor() throws SQLException {
+        try (Connection conn = getConnection()) {
+            List<IndexAdvisor.Finding> findings = IndexAdvisor.analyze(conn, POOL.getCapturedSql());
+            System.out.println(IndexAdvisor.report(findings));
+            return findings;
+        }
+    }
+
+    // Hit/miss counters of the reference-data caches, one entry per cache
+    public static List<ReadThroughCache.Stats> getCacheStats() {
+        List<ReadThroughCache.Stats> stats = new ArrayList<>();
+        stats.add(JOBS_CACHE.getStats());
+        stats.add(TRAINING_PROGRAMS_CACHE.getStats());
+        stats.add(RESOURCES_CACHE.getStats());
+        stats.add(JOB_SKILLS_CACHE.getStats());
+        return stats;
+    }
+
+    // Drop every cached reference list, e.g. after rows were edited in the H2 web console
+    public static void invalidateCaches() {
+        JOBS_CACHE.invalidateAll();
+        TRAINING_PROGRAMS_CACHE.invalidateAll();
+        RESOURCES_CACHE.invalidateAll();
+        JOB_SKILLS_CACHE.invalidateAll();
+    }
+
+    // Turn SQL recording for the index advisor on or off at runtime
+    public static void setIndexAdvisorCapture(boolean enabled) {
+        POOL.setSqlCapture(enabled);
+    }
+
+    // Close pooled connections; registered as a JVM shutdown hook
+    public static void shutdown() {
+        // Accounts mirrored by recent logins are still in memory; write them before exiting
+        AccountStorage.flush();
+        if (POOL.isShutdown()) return; // already closed explicitly; the exit hook has nothing to do
+        System.out.println("Database shutdown: " + POOL.getStats() + " caches" + getCacheStats());
+        POOL.shutdown();
+    }
+
     // --- USER (admin/applicant) minimal methods ---
     public static Integer createApplicant(String username, String password, String name, int age, String phone) throws SQLException {
         try (Connection conn = getConnection()) {
@@ -486,10 +509,12 @@ public class Database {
                         p2.setString(4, phone);
                         p2.executeUpdate();
                     }
+                    adjustMetric(conn, "applicants", "APPLICANT", 1, 0);
                     conn.commit();
 
                     // Keep backup storage in sync
                     AccountStorage.addOrUpdateAccount("APPLICANT", username, password, null);
+                    ChangeEventBus.publish(ChangeEvent.created(ChangeEvent.Entity.APPLICANT, uid, null, null));
                     return uid;
                 }
             }
@@ -502,27 +527,49 @@ public class Database {
         }
     }
 
+    private static final String APPLICANT_SELECT =
+            "SELECT u.user_id,u.username,p.person_id,p.name,p.age,p.phone FROM users u LEFT JOIN persons p ON u.user_id=p.user_id WHERE u.role='APPLICANT'";
+
+    // users also has an index on role, which the planner prefers but which forces a sort of every applicant
+    private static final String APPLICANT_SELECT_NEWEST_FIRST =
+            APPLICANT_SELECT.replace("FROM users u ", "FROM users u USE INDEX (idx_users_id_desc) ");
+
+    private static ApplicantRecord readApplicant(ResultSet rs) throws SQLException {
+        ApplicantRecord a = new ApplicantRecord();
+        a.userId = rs.getInt(1);
+        a.username = rs.getString(2);
+        a.personId = rs.getInt(3);
+        a.name = rs.getString(4);
+        a.age = rs.getInt(5);
+        a.phone = rs.getString(6);
+        return a;
+    }
+
     public static List<ApplicantRecord> getAllApplicants() throws SQLException {
         List<ApplicantRecord> list = new ArrayList<>();
         try (Connection conn = getConnection();
-             Statement s = conn.createStatement();
-             ResultSet rs = s.executeQuery("SELECT u.user_id,u.username,p.person_id,p.name,p.age,p.phone FROM users u LEFT JOIN persons p ON u.user_id=p.user_id WHERE u.role='APPLICANT'")) {
+             PreparedStatement s = conn.prepareStatement(APPLICANT_SELECT);
+             ResultSet rs = s.executeQuery()) {
             while (rs.next()) {
-                ApplicantRecord a = new ApplicantRecord();
-                a.userId = rs.getInt(1);
-                a.username = rs.getString(2);
-                a.personId = rs.getInt(3);
-                a.name = rs.getString(4);
-                a.age = rs.getInt(5);
-                a.phone = rs.getString(6);
-                list.add(a);
+                list.add(readApplicant(rs));
             }
         }
         return list;
     }
 
+    // One screen of applicants, newest first; see page()
+    public static Page<ApplicantRecord> getApplicantsPage(Integer fromKey, PageDirection direction, int limit) throws SQLException {
+        return page(APPLICANT_SELECT, APPLICANT_SELECT_NEWEST_FIRST, true, "u.user_id", Database::readApplicant, r -> r.userId, fromKey, direction, limit);
+    }
+
+    // Same rows as getAllApplicants, handed to the sink one at a time from a database cursor
+    public static long streamApplicants(RecordSink<ApplicantRecord> sink) throws SQLException, IOException {
+        return stream(APPLICANT_SELECT, Database::readApplicant, sink);
+    }
+
     public static boolean deleteApplicant(int userId) throws SQLException {
         try (Connection conn = getConnection()) {
+            conn.setAutoCommit(false);
             PreparedStatement p1 = conn.prepareStatement("DELETE FROM persons WHERE user_id=?");
             p1.setInt(1, userId); p1.executeUpdate();
             PreparedStatement p2 = conn.prepareStatement("DELETE FROM household_members WHERE applicant_id=?");
@@ -530,18 +577,27 @@ public class Database {
             PreparedStatement p3 = conn.prepareStatement("DELETE FROM users WHERE user_id=?");
             // Get username before deletion so we can also update backup storage
             String username = null;
-            try (PreparedStatement lookup = conn.prepareStatement("SELECT username FROM users WHERE user_id=?")) {
+            String role = null;
+            try (PreparedStatement lookup = conn.prepareStatement("SELECT username, role FROM users WHERE user_id=?")) {
                 lookup.setInt(1, userId);
                 try (ResultSet rs = lookup.executeQuery()) {
                     if (rs.next()) {
                         username = rs.getString(1);
+                        role = rs.getString(2);
                     }
                 }
             }
             p3.setInt(1, userId); int c = p3.executeUpdate();
+            if (c > 0 && "APPLICANT".equals(role)) {
+                adjustMetric(conn, "applicants", "APPLICANT", -c, 0);
+            }
+            conn.commit();
             if (c > 0 && username != null) {
                 AccountStorage.removeAccount(username);
             }
+            if (c > 0) {
+                ChangeEventBus.publish(ChangeEvent.deleted(ChangeEvent.Entity.APPLICANT, userId));
+            }
             return c>0;
         } catch (SQLException e) {
             System.err.println("deleteApplicant DB error: " + e.getMessage());
@@ -557,26 +613,58 @@ public class Database {
              PreparedStatement p = conn.prepareStatement("INSERT INTO jobs(title,description,salary) VALUES(?,?,?)", Statement.RETURN_GENERATED_KEYS)) {
             p.setString(1, title); p.setString(2, desc); p.setDouble(3, salary);
             p.executeUpdate(); ResultSet keys = p.getGeneratedKeys(); keys.next();
-            return keys.getInt(1);
+            JOBS_CACHE.invalidateAll();
+            JobRecord job = job(title, desc, salary);
+            job.id = keys.getInt(1);
+            ChangeEventBus.publish(ChangeEvent.created(ChangeEvent.Entity.JOB, job.id, null, job));
+            return job.id;
         }
     }
+    // Insert many jobs in one transaction; returns the new job ids in input order
+    public static List<Integer> createJobs(List<JobRecord> jobs) throws SQLException {
+        if (jobs.isEmpty()) return new ArrayList<>();
+        try (Connection conn = getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement p = conn.prepareStatement("INSERT INTO jobs(title,description,salary) VALUES(?,?,?)", Statement.RETURN_GENERATED_KEYS)) {
+                for (JobRecord j : jobs) {
+                    p.setString(1, j.title); p.setString(2, j.description); p.setDouble(3, j.salary);
+                    p.addBatch();
+                }
+                p.executeBatch();
+                List<Integer> ids = generatedKeys(p);
+                conn.commit();
+                JOBS_CACHE.invalidateAll();
+                ChangeEventBus.publish(ChangeEvent.bulk(ChangeEvent.Entity.JOB));
+                return ids;
+            }
+        }
+    }
+    // Served from JOBS_CACHE after the first call; the list is shared and read-only
     public static List<JobRecord> getAllJobs() throws SQLException {
+        return JOBS_CACHE.get(ALL, Database::loadAllJobs);
+    }
+    private static List<JobRecord> loadAllJobs() throws SQLException {
         List<JobRecord> list = new ArrayList<>();
         try (Connection conn = getConnection();
-             Statement s = conn.createStatement();
-             ResultSet rs = s.executeQuery("SELECT job_id,title,description,salary FROM jobs")) {
+             PreparedStatement s = conn.prepareStatement("SELECT job_id,title,description,salary FROM jobs");
+             ResultSet rs = s.executeQuery()) {
             while (rs.next()) {
                 JobRecord j = new JobRecord();
                 j.id = rs.getInt(1); j.title = rs.getString(2); j.description = rs.getString(3); j.salary = rs.getDouble(4);
                 list.add(j);
             }
         }
-        return list;
+        return Collections.unmodifiableList(list);
     }
     public static boolean deleteJob(int id) throws SQLException {
         try (Connection conn = getConnection()) {
             PreparedStatement p = conn.prepareStatement("DELETE FROM jobs WHERE job_id=?");
-            p.setInt(1, id); return p.executeUpdate()>0;
+            p.setInt(1, id);
+            boolean deleted = p.executeUpdate()>0;
+            JOBS_CACHE.invalidateAll();
+            JOB_SKILLS_CACHE.invalidate(id);
+            if (deleted) ChangeEventBus.publish(ChangeEvent.deleted(ChangeEvent.Entity.JOB, id));
+            return deleted;
         }
     }
 
@@ -596,11 +684,56 @@ public class Database {
             p.setString(9, address);
             p.setString(10, experience);
             // Add current date and time
-            p.setString(11, java.time.LocalDateTime.now().toString());
+            p.setTimestamp(11, Timestamp.valueOf(LocalDateTime.now()));
+            conn.setAutoCommit(false);
             p.executeUpdate();
             ResultSet keys = p.getGeneratedKeys();
             keys.next();
-            return keys.getInt(1);
+            int id = keys.getInt(1);
+            adjustMetric(conn, "applications", "PENDING", 1, 0);
+            conn.commit();
+            ChangeEventBus.publish(ChangeEvent.created(ChangeEvent.Entity.APPLICATION, id, "PENDING", null));
+            return id;
+        }
+    }
+    
+    /**
+     * Insert many applications in one transaction; returns the new application ids in input order.
+     * Uses applicantId, jobId and the personal-detail fields of each record; status defaults to PENDING
+     * and submissionDate to now.
+     */
+    public static List<Integer> createApplications(List<ApplicationRecord> apps) throws SQLException {
+        if (apps.isEmpty()) return new ArrayList<>();
+        try (Connection conn = getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement p = conn.prepareStatement("INSERT INTO applications(job_id,applicant_id,status,first_name,middle_name,last_name,gender,age,address,experience,submission_date) VALUES(?,?,?,?,?,?,?,?,?,?,?)", Statement.RETURN_GENERATED_KEYS)) {
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                Map<String, Integer> byStatus = new HashMap<>();
+                for (ApplicationRecord a : apps) {
+                    String status = a.status != null ? a.status : "PENDING";
+                    byStatus.merge(status, 1, Integer::sum);
+                    p.setInt(1, a.jobId);
+                    p.setInt(2, a.applicantId);
+                    p.setString(3, status);
+                    p.setString(4, a.firstName);
+                    p.setString(5, a.middleName);
+                    p.setString(6, a.lastName);
+                    p.setString(7, a.gender);
+                    p.setInt(8, a.age);
+                    p.setString(9, a.address);
+                    p.setString(10, a.experience);
+                    p.setTimestamp(11, a.submissionDate != null ? Timestamp.valueOf(a.submissionDate) : now);
+                    p.addBatch();
+                }
+                p.executeBatch();
+                List<Integer> ids = generatedKeys(p);
+                for (Map.Entry<String, Integer> e : byStatus.entrySet()) {
+                    adjustMetric(conn, "applications", e.getKey(), e.getValue(), 0);
+                }
+                conn.commit();
+                ChangeEventBus.publish(ChangeEvent.bulk(ChangeEvent.Entity.APPLICATION));
+                return ids;
+            }
         }
     }
     
@@ -624,142 +757,255 @@ public class Database {
             return createApplication(applicantId, jobId, firstName, middleName, lastName, "Not Specified", age, "Not Specified", "No experience provided");
         }
     }
+    private static final String APPLICATION_SELECT =
+            "SELECT a.application_id,a.job_id,a.applicant_id,a.status,j.title,u.username,p.name," +
+            "a.first_name,a.middle_name,a.last_name,a.gender,a.age,a.address,a.experience,a.submission_date " +
+            "FROM applications a " +
+            "LEFT JOIN jobs j ON a.job_id=j.job_id LEFT JOIN users u ON a.applicant_id=u.user_id LEFT JOIN persons p ON u.user_id=p.user_id ";
+
+    private static ApplicationRecord readApplication(ResultSet rs) throws SQLException {
+        ApplicationRecord r = new ApplicationRecord();
+        r.id = rs.getInt(1);
+        r.jobId = rs.getInt(2);
+        r.applicantId = rs.getInt(3);
+        r.status = rs.getString(4);
+        r.jobTitle = rs.getString(5);
+        r.applicantUsername = rs.getString(6);
+        r.applicantName = rs.getString(7);
+        r.firstName = rs.getString(8);
+        r.middleName = rs.getString(9);
+        r.lastName = rs.getString(10);
+        r.gender = rs.getString(11);
+        r.age = rs.getInt(12);
+        r.address = rs.getString(13);
+        r.experience = rs.getString(14);
+        r.submissionDate = toLocalDateTime(rs.getTimestamp(15));
+        return r;
+    }
+
     public static List<ApplicationRecord> getAllApplications() throws SQLException {
         List<ApplicationRecord> list = new ArrayList<>();
-        // Check if submission_date column exists, if not use a simpler query
-        String q;
-        try (Connection conn = getConnection(); Statement s = conn.createStatement()) {
-            // Try to check if column exists
-            try {
-                s.executeQuery("SELECT submission_date FROM applications LIMIT 1");
-                // Column exists, use full query
-                q = "SELECT a.application_id,a.job_id,a.applicant_id,a.status,j.title,u.username,p.name," +
-                    "a.first_name,a.middle_name,a.last_name,a.gender,a.age,a.address,a.experience,a.submission_date " +
-                    "FROM applications a " +
-                    "LEFT JOIN jobs j ON a.job_id=j.job_id LEFT JOIN users u ON a.applicant_id=u.user_id LEFT JOIN persons p ON u.user_id=p.user_id " +
-                    "ORDER BY a.application_id DESC";
-            } catch (SQLException e) {
-                // Column doesn't exist yet, use query without submission_date
-                q = "SELECT a.application_id,a.job_id,a.applicant_id,a.status,j.title,u.username,p.name," +
-                    "a.first_name,a.middle_name,a.last_name,a.gender,a.age,a.address,a.experience,NULL " +
-                    "FROM applications a " +
-                    "LEFT JOIN jobs j ON a.job_id=j.job_id LEFT JOIN users u ON a.applicant_id=u.user_id LEFT JOIN persons p ON u.user_id=p.user_id " +
-                    "ORDER BY a.application_id DESC";
-            }
-        }
-        
-        try (Connection conn = getConnection(); Statement s = conn.createStatement(); ResultSet rs = s.executeQuery(q)) {
+        try (Connection conn = getConnection();
+             PreparedStatement s = conn.prepareStatement(APPLICATION_SELECT + "ORDER BY a.application_id DESC");
+             ResultSet rs = s.executeQuery()) {
             while (rs.next()) {
-                ApplicationRecord r = new ApplicationRecord();
-                r.id = rs.getInt(1);
-                r.jobId = rs.getInt(2);
-                r.applicantId = rs.getInt(3);
-                r.status = rs.getString(4);
-                r.jobTitle = rs.getString(5);
-                r.applicantUsername = rs.getString(6);
-                r.applicantName = rs.getString(7);
-                r.firstName = rs.getString(8);
-                r.middleName = rs.getString(9);
-                r.lastName = rs.getString(10);
-                r.gender = rs.getString(11);
-                r.age = rs.getInt(12);
-                r.address = rs.getString(13);
-                r.experience = rs.getString(14);
-                try {
-                    r.submissionDate = rs.getString(15);
-                } catch (Exception e) {
-                    r.submissionDate = null;
+                list.add(readApplication(rs));
+            }
+        }
+        return list;
+    }
+
+    // Single application by primary key, or null when it does not exist
+    public static ApplicationRecord getApplicationById(int applicationId) throws SQLException {
+        try (Connection conn = getConnection();
+             PreparedStatement p = conn.prepareStatement(APPLICATION_SELECT + "WHERE a.application_id=?")) {
+            p.setInt(1, applicationId);
+            try (ResultSet rs = p.executeQuery()) {
+                return rs.next() ? readApplication(rs) : null;
+            }
+        }
+    }
+
+    /**
+     * Everything the application details dialog shows, in one primary-key lookup: the application row
+     * with its job and applicant names, plus its latest interview (null when none is scheduled).
+     * Returns null when the application does not exist.
+     */
+    public static ApplicationDetailRecord getApplicationDetail(int applicationId) throws SQLException {
+        String q = "SELECT a.application_id,a.job_id,a.applicant_id,a.status,j.title,u.username,p.name," +
+                "a.first_name,a.middle_name,a.last_name,a.gender,a.age,a.address,a.experience,a.submission_date," +
+                "i.interview_id,i.interview_date,i.interview_time,i.status,i.notes " +
+                "FROM applications a " +
+                "LEFT JOIN jobs j ON a.job_id=j.job_id LEFT JOIN users u ON a.applicant_id=u.user_id LEFT JOIN persons p ON u.user_id=p.user_id " +
+                "LEFT JOIN interviews i ON i.application_id=a.application_id " +
+                "WHERE a.application_id=? ORDER BY i.interview_id DESC LIMIT 1";
+        try (Connection conn = getConnection();
+             PreparedStatement p = conn.prepareStatement(q)) {
+            p.setInt(1, applicationId);
+            try (ResultSet rs = p.executeQuery()) {
+                if (!rs.next()) return null;
+                ApplicationDetailRecord d = new ApplicationDetailRecord();
+                d.application = readApplication(rs);
+                int interviewId = rs.getInt(16);
+                if (!rs.wasNull()) {
+                    InterviewRecord i = new InterviewRecord();
+                    i.id = interviewId;
+                    i.applicationId = d.application.id;
+                    i.applicantId = d.application.applicantId;
+                    i.jobId = d.application.jobId;
+                    i.interviewDate = toLocalDate(rs.getDate(17));
+                    i.interviewTime = rs.getString(18);
+                    i.status = rs.getString(19);
+                    i.notes = rs.getString(20);
+                    i.jobTitle = d.application.jobTitle;
+                    i.applicantUsername = d.application.applicantUsername;
+                    i.applicantName = d.application.applicantName;
+                    d.interview = i;
+                }
+                return d;
+            }
+        }
+    }
+
+    // One applicant's applications, newest first; reads only their rows via the applicant_id index
+    public static List<ApplicationRecord> getApplicationsByApplicant(int applicantId) throws SQLException {
+        List<ApplicationRecord> list = new ArrayList<>();
+        try (Connection conn = getConnection();
+             PreparedStatement p = conn.prepareStatement(APPLICATION_SELECT + "WHERE a.applicant_id=? ORDER BY a.application_id DESC")) {
+            p.setInt(1, applicantId);
+            try (ResultSet rs = p.executeQuery()) {
+                while (rs.next()) {
+                    list.add(readApplication(rs));
                 }
-                list.add(r);
             }
         }
         return list;
     }
+
+    // One screen of applications, newest first; see page()
+    public static Page<ApplicationRecord> getApplicationsPage(Integer fromKey, PageDirection direction, int limit) throws SQLException {
+        return page(APPLICATION_SELECT, APPLICATION_SELECT, false, "a.application_id", Database::readApplication, r -> r.id, fromKey, direction, limit);
+    }
+
+    // Same rows as getAllApplications, handed to the sink one at a time from a database cursor
+    public static long streamApplications(RecordSink<ApplicationRecord> sink) throws SQLException, IOException {
+        return stream(APPLICATION_SELECT + "ORDER BY a.application_id DESC", Database::readApplication, sink);
+    }
     public static boolean updateApplicationStatus(int applicationId, String status) throws SQLException {
-        try (Connection conn = getConnection();
-             PreparedStatement p = conn.prepareStatement("UPDATE applications SET status=? WHERE application_id=?")) {
-            p.setString(1,status); p.setInt(2,applicationId); return p.executeUpdate()>0;
+        try (Connection conn = getConnection()) {
+            conn.setAutoCommit(false);
+            // Lock the row so the counter moves from the status we actually replace
+            String previous;
+            try (PreparedStatement q = conn.prepareStatement("SELECT status FROM applications WHERE application_id=? FOR UPDATE")) {
+                q.setInt(1, applicationId);
+                try (ResultSet rs = q.executeQuery()) {
+                    if (!rs.next()) return false;
+                    previous = rs.getString(1);
+                }
+            }
+            try (PreparedStatement p = conn.prepareStatement("UPDATE applications SET status=? WHERE application_id=?")) {
+                p.setString(1,status); p.setInt(2,applicationId);
+                if (p.executeUpdate() == 0) return false;
+            }
+            if (!Objects.equals(previous, status)) {
+                adjustMetric(conn, "applications", previous, -1, 0);
+                adjustMetric(conn, "applications", status, 1, 0);
+            }
+            conn.commit();
+            ChangeEventBus.publish(ChangeEvent.updated(ChangeEvent.Entity.APPLICATION, applicationId, previous, status));
+            return true;
         }
     }
     
     // --- INTERVIEWS ---
-    public static int createInterview(int applicationId, int applicantId, int jobId, String interviewDate, String interviewTime, String notes) throws SQLException {
+    public static int createInterview(int applicationId, int applicantId, int jobId, LocalDate interviewDate, String interviewTime, String notes) throws SQLException {
         try (Connection conn = getConnection();
              PreparedStatement p = conn.prepareStatement("INSERT INTO interviews(application_id,applicant_id,job_id,interview_date,interview_time,status,notes,created_date) VALUES(?,?,?,?,?,?,?,?)", Statement.RETURN_GENERATED_KEYS)) {
             p.setInt(1, applicationId);
             p.setInt(2, applicantId);
             p.setInt(3, jobId);
-            p.setString(4, interviewDate);
+            p.setDate(4, interviewDate != null ? Date.valueOf(interviewDate) : null);
             p.setString(5, interviewTime);
             p.setString(6, "SCHEDULED");
             p.setString(7, notes != null ? notes : "");
-            p.setString(8, java.time.LocalDateTime.now().toString());
+            p.setTimestamp(8, Timestamp.valueOf(LocalDateTime.now()));
             p.executeUpdate();
             ResultSet keys = p.getGeneratedKeys();
             keys.next();
-            return keys.getInt(1);
+            int id = keys.getInt(1);
+            ChangeEventBus.publish(ChangeEvent.created(ChangeEvent.Entity.INTERVIEW, id, "SCHEDULED", null));
+            return id;
         }
     }
     
+    private static final String INTERVIEW_SELECT =
+            "SELECT i.interview_id,i.application_id,i.applicant_id,i.job_id,i.interview_date,i.interview_time,i.status,i.notes,i.created_date," +
+            "j.title,u.username,p.name " +
+            "FROM interviews i " +
+            "LEFT JOIN jobs j ON i.job_id=j.job_id " +
+            "LEFT JOIN users u ON i.applicant_id=u.user_id " +
+            "LEFT JOIN persons p ON u.user_id=p.user_id ";
+
+    private static InterviewRecord readInterview(ResultSet rs) throws SQLException {
+        InterviewRecord r = new InterviewRecord();
+        r.id = rs.getInt(1);
+        r.applicationId = rs.getInt(2);
+        r.applicantId = rs.getInt(3);
+        r.jobId = rs.getInt(4);
+        r.interviewDate = toLocalDate(rs.getDate(5));
+        r.interviewTime = rs.getString(6);
+        r.status = rs.getString(7);
+        r.notes = rs.getString(8);
+        r.createdDate = toLocalDateTime(rs.getTimestamp(9));
+        r.jobTitle = rs.getString(10);
+        r.applicantUsername = rs.getString(11);
+        r.applicantName = rs.getString(12);
+        return r;
+    }
+
     public static List<InterviewRecord> getAllInterviews() throws SQLException {
         List<InterviewRecord> list = new ArrayList<>();
-        String q = "SELECT i.interview_id,i.application_id,i.applicant_id,i.job_id,i.interview_date,i.interview_time,i.status,i.notes,i.created_date," +
-                "j.title,u.username,p.name " +
-                "FROM interviews i " +
-                "LEFT JOIN jobs j ON i.job_id=j.job_id " +
-                "LEFT JOIN users u ON i.applicant_id=u.user_id " +
-                "LEFT JOIN persons p ON u.user_id=p.user_id " +
-                "ORDER BY i.interview_id DESC";
-        try (Connection conn = getConnection(); Statement s = conn.createStatement(); ResultSet rs = s.executeQuery(q)) {
+        try (Connection conn = getConnection();
+             PreparedStatement s = conn.prepareStatement(INTERVIEW_SELECT + "ORDER BY i.interview_id DESC");
+             ResultSet rs = s.executeQuery()) {
             while (rs.next()) {
-                InterviewRecord r = new InterviewRecord();
-                r.id = rs.getInt(1);
-                r.applicationId = rs.getInt(2);
-                r.applicantId = rs.getInt(3);
-                r.jobId = rs.getInt(4);
-                r.interviewDate = rs.getString(5);
-                r.interviewTime = rs.getString(6);
-                r.status = rs.getString(7);
-                r.notes = rs.getString(8);
-                r.createdDate = rs.getString(9);
-                r.jobTitle = rs.getString(10);
-                r.applicantUsername = rs.getString(11);
-                r.applicantName = rs.getString(12);
-                list.add(r);
+                list.add(readInterview(rs));
             }
         }
         return list;
     }
+
+    // One screen of interviews, newest first; see page()
+    public static Page<InterviewRecord> getInterviewsPage(Integer fromKey, PageDirection direction, int limit) throws SQLException {
+        return page(INTERVIEW_SELECT, INTERVIEW_SELECT, false, "i.interview_id", Database::readInterview, r -> r.id, fromKey, direction, limit);
+    }
     
     public static boolean updateInterviewStatus(int interviewId, String status) throws SQLException {
-        try (Connection conn = getConnection();
-             PreparedStatement p = conn.prepareStatement("UPDATE interviews SET status=? WHERE interview_id=?")) {
-            p.setString(1, status);
-            p.setInt(2, interviewId);
-            return p.executeUpdate() > 0;
+        try (Connection conn = getConnection()) {
+            conn.setAutoCommit(false);
+            String previous;
+            try (PreparedStatement q = conn.prepareStatement("SELECT status FROM interviews WHERE interview_id=? FOR UPDATE")) {
+                q.setInt(1, interviewId);
+                try (ResultSet rs = q.executeQuery()) {
+                    if (!rs.next()) return false;
+                    previous = rs.getString(1);
+                }
+            }
+            try (PreparedStatement p = conn.prepareStatement("UPDATE interviews SET status=? WHERE interview_id=?")) {
+                p.setString(1, status);
+                p.setInt(2, interviewId);
+                if (p.executeUpdate() == 0) return false;
+            }
+            conn.commit();
+            ChangeEventBus.publish(ChangeEvent.updated(ChangeEvent.Entity.INTERVIEW, interviewId, previous, status));
+            return true;
         }
     }
     
     public static InterviewRecord getInterviewByApplicationId(int applicationId) throws SQLException {
+        return getInterviewsByApplicationIds(Collections.singletonList(applicationId)).get(applicationId);
+    }
+
+    /**
+     * Interviews for a set of applications in one query, keyed by application id.
+     * The ids are bound as a single array parameter, so the statement text (and its cache entry)
+     * is the same however many ids are passed; H2 turns "= ANY(?)" into an IN lookup on the
+     * application_id index. When an application has several interviews the newest one is kept.
+     */
+    public static Map<Integer, InterviewRecord> getInterviewsByApplicationIds(Collection<Integer> applicationIds) throws SQLException {
+        Map<Integer, InterviewRecord> byApplication = new HashMap<>();
+        if (applicationIds.isEmpty()) return byApplication;
         try (Connection conn = getConnection();
-             PreparedStatement p = conn.prepareStatement("SELECT interview_id,application_id,applicant_id,job_id,interview_date,interview_time,status,notes,created_date FROM interviews WHERE application_id=?")) {
-            p.setInt(1, applicationId);
-            ResultSet rs = p.executeQuery();
-            if (rs.next()) {
-                InterviewRecord r = new InterviewRecord();
-                r.id = rs.getInt(1);
-                r.applicationId = rs.getInt(2);
-                r.applicantId = rs.getInt(3);
-                r.jobId = rs.getInt(4);
-                r.interviewDate = rs.getString(5);
-                r.interviewTime = rs.getString(6);
-                r.status = rs.getString(7);
-                r.notes = rs.getString(8);
-                r.createdDate = rs.getString(9);
-                return r;
+             PreparedStatement p = conn.prepareStatement(INTERVIEW_SELECT + "WHERE i.application_id = ANY(?) ORDER BY i.interview_id DESC")) {
+            p.setObject(1, applicationIds.toArray(new Integer[0]));
+            try (ResultSet rs = p.executeQuery()) {
+                while (rs.next()) {
+                    InterviewRecord r = readInterview(rs);
+                    byApplication.putIfAbsent(r.applicationId, r);
+                }
             }
         }
-        return null;
+        return byApplication;
     }
 
     // --- HOUSEHOLDS ---
@@ -770,25 +1016,80 @@ public class Database {
             return keys.getInt(1);
         }
     }
+    // One row per (household, member); households without members come back once with a NULL applicant_id
+    private static final String HOUSEHOLD_SELECT =
+            "SELECT h.household_id,h.name,h.address,m.applicant_id FROM households h " +
+            "LEFT JOIN household_members m ON m.household_id=h.household_id ";
+    private static final String HOUSEHOLD_ORDER = "ORDER BY h.household_id, m.applicant_id";
+
+    private interface HouseholdCollector {
+        void add(int id, String name, String address, int[] members, int memberCount);
+    }
+
+    /** All households with their member ids, loaded in one query. */
     public static List<HouseholdRecord> getAllHouseholds() throws SQLException {
         List<HouseholdRecord> list = new ArrayList<>();
+        scanHouseholds(null, (id, name, address, members, count) -> list.add(household(id, name, address, members, count)));
+        return list;
+    }
+
+    /** Same as getAllHouseholds but with members as a plain int[], for large lists that are only counted or scanned. */
+    public static List<CompactHouseholdRecord> getAllHouseholdsCompact() throws SQLException {
+        List<CompactHouseholdRecord> list = new ArrayList<>();
+        scanHouseholds(null, (id, name, address, members, count) -> {
+            CompactHouseholdRecord h = new CompactHouseholdRecord();
+            h.id = id; h.name = name; h.address = address; h.memberIds = Arrays.copyOf(members, count);
+            list.add(h);
+        });
+        return list;
+    }
+
+    /** The given households with their members, in id order; ids that do not exist are skipped. */
+    public static List<HouseholdRecord> getHouseholdsByIds(Collection<Integer> householdIds) throws SQLException {
+        List<HouseholdRecord> list = new ArrayList<>();
+        if (householdIds.isEmpty()) return list;
+        scanHouseholds(householdIds.toArray(new Integer[0]),
+                (id, name, address, members, count) -> list.add(household(id, name, address, members, count)));
+        return list;
+    }
+
+    // Walks the join in household order and hands each household over once its last member row is read
+    private static void scanHouseholds(Integer[] ids, HouseholdCollector out) throws SQLException {
+        String sql = HOUSEHOLD_SELECT + (ids != null ? "WHERE h.household_id = ANY(?) " : "") + HOUSEHOLD_ORDER;
         try (Connection conn = getConnection();
-             Statement s = conn.createStatement();
-             ResultSet rs = s.executeQuery("SELECT household_id,name,address FROM households")) {
-            while (rs.next()) {
-                HouseholdRecord h = new HouseholdRecord();
-                h.id = rs.getInt(1); h.name = rs.getString(2); h.address = rs.getString(3);
-                // members
-                try (PreparedStatement pm = conn.prepareStatement("SELECT applicant_id FROM household_members WHERE household_id=?")) {
-                    pm.setInt(1, h.id);
-                    try (ResultSet rm = pm.executeQuery()) {
-                        while (rm.next()) h.memberIds.add(rm.getInt(1));
+             PreparedStatement s = conn.prepareStatement(sql)) {
+            if (ids != null) s.setObject(1, ids);
+            try (ResultSet rs = s.executeQuery()) {
+                int[] members = new int[8];
+                int count = 0;
+                int currentId = 0;
+                String name = null, address = null;
+                boolean open = false;
+                while (rs.next()) {
+                    int id = rs.getInt(1);
+                    if (!open || id != currentId) {
+                        if (open) out.add(currentId, name, address, members, count);
+                        currentId = id; name = rs.getString(2); address = rs.getString(3);
+                        count = 0;
+                        open = true;
+                    }
+                    int member = rs.getInt(4);
+                    if (!rs.wasNull()) {
+                        if (count == members.length) members = Arrays.copyOf(members, count * 2);
+                        members[count++] = member;
                     }
                 }
-                list.add(h);
+                if (open) out.add(currentId, name, address, members, count);
             }
         }
-        return list;
+    }
+
+    private static HouseholdRecord household(int id, String name, String address, int[] members, int count) {
+        HouseholdRecord h = new HouseholdRecord();
+        h.id = id; h.name = name; h.address = address;
+        h.memberIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) h.memberIds.add(members[i]);
+        return h;
     }
     public static boolean addHouseholdMember(int householdId, int applicantId) throws SQLException {
         try (Connection conn = getConnection()) {
@@ -818,36 +1119,63 @@ public class Database {
     public static int createResource(String name,int qty) throws SQLException {
         try (Connection conn = getConnection();
              PreparedStatement p = conn.prepareStatement("INSERT INTO resources(name,quantity) VALUES(?,?)", Statement.RETURN_GENERATED_KEYS)) {
-            p.setString(1,name); p.setInt(2,qty); p.executeUpdate(); ResultSet keys = p.getGeneratedKeys(); keys.next(); return keys.getInt(1);
+            p.setString(1,name); p.setInt(2,qty); p.executeUpdate(); ResultSet keys = p.getGeneratedKeys(); keys.next();
+            RESOURCES_CACHE.invalidateAll();
+            int id = keys.getInt(1);
+            ChangeEventBus.publish(ChangeEvent.created(ChangeEvent.Entity.RESOURCE, id, null, null));
+            return id;
         }
     }
+    // Insert many resources in one transaction; returns the new resource ids in input order
+    public static List<Integer> createResources(List<ResourceRecord> resources) throws SQLException {
+        if (resources.isEmpty()) return new ArrayList<>();
+        try (Connection conn = getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement p = conn.prepareStatement("INSERT INTO resources(name,quantity) VALUES(?,?)", Statement.RETURN_GENERATED_KEYS)) {
+                for (ResourceRecord r : resources) {
+                    p.setString(1, r.name); p.setInt(2, r.quantity);
+                    p.addBatch();
+                }
+                p.executeBatch();
+                List<Integer> ids = generatedKeys(p);
+                conn.commit();
+                RESOURCES_CACHE.invalidateAll();
+                ChangeEventBus.publish(ChangeEvent.bulk(ChangeEvent.Entity.RESOURCE));
+                return ids;
+            }
+        }
+    }
+    // Served from RESOURCES_CACHE after the first call; the list is shared and read-only
     public static List<ResourceRecord> getAllResources() throws SQLException {
+        return RESOURCES_CACHE.get(ALL, Database::loadAllResources);
+    }
+    private static List<ResourceRecord> loadAllResources() throws SQLException {
         List<ResourceRecord> list = new ArrayList<>();
         try (Connection conn = getConnection();
-             Statement s = conn.createStatement();
-             ResultSet rs = s.executeQuery("SELECT resource_id,name,quantity FROM resources")) {
+             PreparedStatement s = conn.prepareStatement("SELECT resource_id,name,quantity FROM resources");
+             ResultSet rs = s.executeQuery()) {
             while (rs.next()) {
                 ResourceRecord r = new ResourceRecord();
                 r.id = rs.getInt(1); r.name = rs.getString(2); r.quantity = rs.getInt(3);
                 list.add(r);
             }
         }
-        return list;
+        return Collections.unmodifiableList(list);
     }
 
     // --- SIMULATIONS ---
-    public static int createSimulation(String description, String runAt, String results) throws SQLException {
+    public static int createSimulation(String description, LocalDateTime runAt, String results) throws SQLException {
         try (Connection conn = getConnection();
              PreparedStatement p = conn.prepareStatement("INSERT INTO simulations(description,run_at,results) VALUES(?,?,?)", Statement.RETURN_GENERATED_KEYS)) {
-            p.setString(1,description); p.setString(2,runAt); p.setString(3,results); p.executeUpdate(); ResultSet keys = p.getGeneratedKeys(); keys.next(); return keys.getInt(1);
+            p.setString(1,description); p.setTimestamp(2, runAt != null ? Timestamp.valueOf(runAt) : null); p.setString(3,results); p.executeUpdate(); ResultSet keys = p.getGeneratedKeys(); keys.next(); return keys.getInt(1);
         }
     }
     public static List<SimulationRecord> getAllSimulations() throws SQLException {
         List<SimulationRecord> list = new ArrayList<>();
-        try (Connection conn = getConnection(); Statement s = conn.createStatement(); ResultSet rs = s.executeQuery("SELECT simulation_id,description,run_at,results FROM simulations")) {
+        try (Connection conn = getConnection(); PreparedStatement s = conn.prepareStatement("SELECT simulation_id,description,run_at,results FROM simulations"); ResultSet rs = s.executeQuery()) {
             while (rs.next()) {
                 SimulationRecord r = new SimulationRecord();
-                r.id = rs.getInt(1); r.description = rs.getString(2); r.runAt = rs.getString(3); r.results = rs.getString(4);
+                r.id = rs.getInt(1); r.description = rs.getString(2); r.runAt = toLocalDateTime(rs.getTimestamp(3)); r.results = rs.getString(4);
                 list.add(r);
             }
         }
@@ -865,8 +1193,8 @@ public class Database {
                 String role = rs.getString(1);
                 boolean ok = role != null && "ADMIN".equalsIgnoreCase(role);
                 if (ok) {
-                    // Keep backup store in sync
-                    AccountStorage.addOrUpdateAccount("ADMIN", username, password, null);
+                    // Keep backup store in sync; written by the background flusher, not on the login path
+                    AccountStorage.mirrorAccount("ADMIN", username, password);
                 }
                 return ok;
             }
@@ -890,8 +1218,8 @@ public class Database {
                 String role = rs.getString(1);
                 boolean ok = role != null && "APPLICANT".equalsIgnoreCase(role);
                 if (ok) {
-                    // Keep backup store in sync
-                    AccountStorage.addOrUpdateAccount("APPLICANT", username, password, null);
+                    // Keep backup store in sync; written by the background flusher, not on the login path
+                    AccountStorage.mirrorAccount("APPLICANT", username, password);
                 }
                 return ok;
             }
@@ -930,16 +1258,42 @@ public class Database {
      * This does not create a corresponding person/profile row; it can be completed later.
      */
     public static void createUserAccountFromSync(String role, String username, String password) throws SQLException {
-        if (username == null || username.isEmpty()) return;
-        if (role == null || role.isEmpty()) role = "APPLICANT";
-        if (password == null) password = "";
-        try (Connection conn = getConnection();
-             PreparedStatement p = conn.prepareStatement("INSERT INTO users(username,password,role) VALUES(?,?,?)")) {
-            p.setString(1, username);
-            p.setString(2, password);
-            p.setString(3, role);
-            p.executeUpdate();
+        AccountStorage.Account acc = new AccountStorage.Account();
+        acc.role = role;
+        acc.username = username;
+        acc.password = password;
+        createUserAccountsFromSync(Collections.singletonList(acc));
+    }
+
+    // Insert many bare user accounts in one batch and one transaction; returns how many were inserted
+    public static int createUserAccountsFromSync(List<AccountStorage.Account> accounts) throws SQLException {
+        int applicants = 0, inserted = 0;
+        try (Connection conn = getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement p = conn.prepareStatement("INSERT INTO users(username,password,role) VALUES(?,?,?)")) {
+                for (AccountStorage.Account acc : accounts) {
+                    if (acc.username == null || acc.username.isEmpty()) continue;
+                    String role = acc.role == null || acc.role.isEmpty() ? "APPLICANT" : acc.role;
+                    p.setString(1, acc.username);
+                    p.setString(2, acc.password == null ? "" : acc.password);
+                    p.setString(3, role);
+                    p.addBatch();
+                    inserted++;
+                    if ("APPLICANT".equals(role)) applicants++;
+                }
+                if (inserted == 0) return 0;
+                p.executeBatch();
+                if (applicants > 0) {
+                    adjustMetric(conn, "applicants", "APPLICANT", applicants, 0);
+                }
+                conn.commit();
+            }
+        }
+        if (applicants > 0) {
+            // Sync inserts come in runs at startup and have no generated key; listeners just reload
+            ChangeEventBus.publish(ChangeEvent.bulk(ChangeEvent.Entity.APPLICANT));
         }
+        return inserted;
     }
 
     // Get applicant user ID by username
@@ -963,7 +1317,7 @@ public class Database {
             p.setString(2, description);
             p.setString(3, category);
             p.setString(4, "PENDING");
-            p.setString(5, java.time.LocalDateTime.now().toString());
+            p.setTimestamp(5, Timestamp.valueOf(LocalDateTime.now()));
             p.executeUpdate();
             ResultSet keys = p.getGeneratedKeys();
             keys.next();
@@ -983,7 +1337,7 @@ public class Database {
                 n.description = rs.getString(2);
                 n.category = rs.getString(3);
                 n.status = rs.getString(4);
-                n.submittedDate = rs.getString(5);
+                n.submittedDate = toLocalDateTime(rs.getTimestamp(5));
                 list.add(n);
             }
         }
@@ -1038,30 +1392,65 @@ public class Database {
             p.setInt(3, durationDays);
             p.setString(4, skillsTaught);
             p.setString(5, "ACTIVE");
+            conn.setAutoCommit(false);
             p.executeUpdate();
             ResultSet keys = p.getGeneratedKeys();
             keys.next();
-            return keys.getInt(1);
+            int id = keys.getInt(1);
+            adjustMetric(conn, "training", "ACTIVE", 1, 0);
+            conn.commit();
+            TRAINING_PROGRAMS_CACHE.invalidateAll();
+            TrainingProgramRecord t = new TrainingProgramRecord();
+            t.id = id; t.title = title; t.description = description; t.durationDays = durationDays; t.skillsTaught = skillsTaught; t.status = "ACTIVE";
+            ChangeEventBus.publish(ChangeEvent.created(ChangeEvent.Entity.TRAINING_PROGRAM, id, "ACTIVE", t));
+            return id;
         }
     }
     
+    private static final String TRAINING_PROGRAM_SELECT =
+            "SELECT program_id,title,description,duration_days,skills_taught,status FROM training_programs";
+
+    private static TrainingProgramRecord readTrainingProgram(ResultSet rs) throws SQLException {
+        TrainingProgramRecord t = new TrainingProgramRecord();
+        t.id = rs.getInt(1);
+        t.title = rs.getString(2);
+        t.description = rs.getString(3);
+        t.durationDays = rs.getInt(4);
+        t.skillsTaught = rs.getString(5);
+        t.status = rs.getString(6);
+        return t;
+    }
+
+    // Served from TRAINING_PROGRAMS_CACHE after the first call; the list is shared and read-only
     public static List<TrainingProgramRecord> getAllTrainingPrograms() throws SQLException {
-        List<TrainingProgramRecord> list = new ArrayList<>();
-        try (Connection conn = getConnection();
-             Statement s = conn.createStatement();
-             ResultSet rs = s.executeQuery("SELECT program_id,title,description,duration_days,skills_taught,status FROM training_programs")) {
-            while (rs.next()) {
-                TrainingProgramRecord t = new TrainingProgramRecord();
-                t.id = rs.getInt(1);
-                t.title = rs.getString(2);
-                t.description = rs.getString(3);
-                t.durationDays = rs.getInt(4);
-                t.skillsTaught = rs.getString(5);
-                t.status = rs.getString(6);
-                list.add(t);
+        return TRAINING_PROGRAMS_CACHE.get(ALL, () -> {
+            List<TrainingProgramRecord> list = new ArrayList<>();
+            try (Connection conn = getConnection();
+                 PreparedStatement s = conn.prepareStatement(TRAINING_PROGRAM_SELECT);
+                 ResultSet rs = s.executeQuery()) {
+                while (rs.next()) {
+                    list.add(readTrainingProgram(rs));
+                }
             }
-        }
-        return list;
+            return Collections.unmodifiableList(list);
+        });
+    }
+
+    // Programs in one status (e.g. ACTIVE for the applicant portal), filtered in SQL and cached per status
+    public static List<TrainingProgramRecord> getTrainingProgramsByStatus(String status) throws SQLException {
+        return TRAINING_PROGRAMS_CACHE.get(status, () -> {
+            List<TrainingProgramRecord> list = new ArrayList<>();
+            try (Connection conn = getConnection();
+                 PreparedStatement p = conn.prepareStatement(TRAINING_PROGRAM_SELECT + " WHERE status=?")) {
+                p.setString(1, status);
+                try (ResultSet rs = p.executeQuery()) {
+                    while (rs.next()) {
+                        list.add(readTrainingProgram(rs));
+                    }
+                }
+            }
+            return Collections.unmodifiableList(list);
+        });
     }
     
     public static int enrollInTraining(int applicantId, int programId) throws SQLException {
@@ -1069,12 +1458,14 @@ public class Database {
              PreparedStatement p = conn.prepareStatement("INSERT INTO training_enrollments(applicant_id,program_id,enrollment_date,status) VALUES(?,?,?,?)", Statement.RETURN_GENERATED_KEYS)) {
             p.setInt(1, applicantId);
             p.setInt(2, programId);
-            p.setString(3, java.time.LocalDateTime.now().toString());
+            p.setTimestamp(3, Timestamp.valueOf(LocalDateTime.now()));
             p.setString(4, "ENROLLED");
             p.executeUpdate();
             ResultSet keys = p.getGeneratedKeys();
             keys.next();
-            return keys.getInt(1);
+            int id = keys.getInt(1);
+            ChangeEventBus.publish(ChangeEvent.created(ChangeEvent.Entity.TRAINING_ENROLLMENT, id, "ENROLLED", null));
+            return id;
         }
     }
     
@@ -1089,8 +1480,8 @@ public class Database {
                 t.enrollmentId = rs.getInt(1);
                 t.programId = rs.getInt(2);
                 t.programTitle = rs.getString(3);
-                t.enrollmentDate = rs.getString(4);
-                t.completionDate = rs.getString(5);
+                t.enrollmentDate = toLocalDateTime(rs.getTimestamp(4));
+                t.completionDate = toLocalDateTime(rs.getTimestamp(5));
                 t.status = rs.getString(6);
                 list.add(t);
             }
@@ -1109,8 +1500,8 @@ public class Database {
                 t.applicantId = rs.getInt(2);
                 t.applicantUsername = rs.getString(3);
                 t.programTitle = rs.getString(4);
-                t.enrollmentDate = rs.getString(5);
-                t.completionDate = rs.getString(6);
+                t.enrollmentDate = toLocalDateTime(rs.getTimestamp(5));
+                t.completionDate = toLocalDateTime(rs.getTimestamp(6));
                 t.status = rs.getString(7);
                 list.add(t);
             }
@@ -1119,10 +1510,25 @@ public class Database {
     }
     
     public static boolean deleteTrainingProgram(int programId) throws SQLException {
-        try (Connection conn = getConnection();
-             PreparedStatement p = conn.prepareStatement("DELETE FROM training_programs WHERE program_id=?")) {
-            p.setInt(1, programId);
-            return p.executeUpdate() > 0;
+        try (Connection conn = getConnection()) {
+            conn.setAutoCommit(false);
+            String status;
+            try (PreparedStatement q = conn.prepareStatement("SELECT status FROM training_programs WHERE program_id=? FOR UPDATE")) {
+                q.setInt(1, programId);
+                try (ResultSet rs = q.executeQuery()) {
+                    if (!rs.next()) return false;
+                    status = rs.getString(1);
+                }
+            }
+            try (PreparedStatement p = conn.prepareStatement("DELETE FROM training_programs WHERE program_id=?")) {
+                p.setInt(1, programId);
+                if (p.executeUpdate() == 0) return false;
+            }
+            adjustMetric(conn, "training", status, -1, 0);
+            conn.commit();
+            TRAINING_PROGRAMS_CACHE.invalidateAll();
+            ChangeEventBus.publish(ChangeEvent.deleted(ChangeEvent.Entity.TRAINING_PROGRAM, programId));
+            return true;
         }
     }
 
@@ -1132,36 +1538,58 @@ public class Database {
              PreparedStatement p = conn.prepareStatement("INSERT INTO employment_status(applicant_id,job_id,start_date,monthly_income,status) VALUES(?,?,?,?,?)", Statement.RETURN_GENERATED_KEYS)) {
             p.setInt(1, applicantId);
             p.setInt(2, jobId);
-            p.setString(3, java.time.LocalDateTime.now().toString());
+            p.setTimestamp(3, Timestamp.valueOf(LocalDateTime.now()));
             p.setDouble(4, monthlyIncome);
             p.setString(5, "EMPLOYED");
+            conn.setAutoCommit(false);
             p.executeUpdate();
             ResultSet keys = p.getGeneratedKeys();
             keys.next();
-            return keys.getInt(1);
+            int id = keys.getInt(1);
+            adjustMetric(conn, "employment", "EMPLOYED", 1, monthlyIncome);
+            conn.commit();
+            ChangeEventBus.publish(ChangeEvent.created(ChangeEvent.Entity.EMPLOYMENT, id, "EMPLOYED", null));
+            return id;
         }
     }
     
+    private static final String EMPLOYMENT_SELECT =
+            "SELECT e.employment_id,e.applicant_id,p.name,e.job_id,j.title,e.start_date,e.monthly_income,e.status FROM employment_status e LEFT JOIN persons p ON e.applicant_id=p.user_id LEFT JOIN jobs j ON e.job_id=j.job_id";
+
+    private static EmploymentStatusRecord readEmployment(ResultSet rs) throws SQLException {
+        EmploymentStatusRecord emp = new EmploymentStatusRecord();
+        emp.id = rs.getInt(1);
+        emp.applicantId = rs.getInt(2);
+        emp.applicantName = rs.getString(3);
+        emp.jobId = rs.getInt(4);
+        emp.jobTitle = rs.getString(5);
+        emp.startDate = toLocalDateTime(rs.getTimestamp(6));
+        emp.monthlyIncome = rs.getDouble(7);
+        emp.status = rs.getString(8);
+        return emp;
+    }
+
     public static List<EmploymentStatusRecord> getAllEmploymentStatus() throws SQLException {
         List<EmploymentStatusRecord> list = new ArrayList<>();
         try (Connection conn = getConnection();
-             Statement s = conn.createStatement();
-             ResultSet rs = s.executeQuery("SELECT e.employment_id,e.applicant_id,p.name,e.job_id,j.title,e.start_date,e.monthly_income,e.status FROM employment_status e LEFT JOIN persons p ON e.applicant_id=p.user_id LEFT JOIN jobs j ON e.job_id=j.job_id")) {
+             PreparedStatement s = conn.prepareStatement(EMPLOYMENT_SELECT);
+             ResultSet rs = s.executeQuery()) {
             while (rs.next()) {
-                EmploymentStatusRecord emp = new EmploymentStatusRecord();
-                emp.id = rs.getInt(1);
-                emp.applicantId = rs.getInt(2);
-                emp.applicantName = rs.getString(3);
-                emp.jobId = rs.getInt(4);
-                emp.jobTitle = rs.getString(5);
-                emp.startDate = rs.getString(6);
-                emp.monthlyIncome = rs.getDouble(7);
-                emp.status = rs.getString(8);
-                list.add(emp);
+                list.add(readEmployment(rs));
             }
         }
         return list;
     }
+
+    // One screen of employment records, newest first; see page()
+    public static Page<EmploymentStatusRecord> getEmploymentStatusPage(Integer fromKey, PageDirection direction, int limit) throws SQLException {
+        return page(EMPLOYMENT_SELECT, EMPLOYMENT_SELECT, false, "e.employment_id", Database::readEmployment, r -> r.id, fromKey, direction, limit);
+    }
+
+    // Same rows as getAllEmploymentStatus, handed to the sink one at a time from a database cursor
+    public static long streamEmploymentStatus(RecordSink<EmploymentStatusRecord> sink) throws SQLException, IOException {
+        return stream(EMPLOYMENT_SELECT, Database::readEmployment, sink);
+    }
     
     public static List<EmploymentStatusRecord> getApplicantEmployment(int applicantId) throws SQLException {
         List<EmploymentStatusRecord> list = new ArrayList<>();
@@ -1176,7 +1604,7 @@ public class Database {
                 emp.applicantName = rs.getString(3);
                 emp.jobId = rs.getInt(4);
                 emp.jobTitle = rs.getString(5);
-                emp.startDate = rs.getString(6);
+                emp.startDate = toLocalDateTime(rs.getTimestamp(6));
                 emp.monthlyIncome = rs.getDouble(7);
                 emp.status = rs.getString(8);
                 list.add(emp);
@@ -1185,15 +1613,176 @@ public class Database {
         return list;
     }
     
+    // --- DASHBOARD METRICS ---
+    // Per-status counts for every table behind the metric cards; also the shape of dashboard_metrics
+    static final String DASHBOARD_METRICS_SQL =
+            "SELECT 'employment', COALESCE(status,''), COUNT(*), COALESCE(SUM(monthly_income),0) FROM employment_status GROUP BY status " +
+            "UNION ALL SELECT 'applications', COALESCE(status,''), COUNT(*), 0 FROM applications GROUP BY status " +
+            "UNION ALL SELECT 'training', COALESCE(status,''), COUNT(*), 0 FROM training_programs GROUP BY status " +
+            "UNION ALL SELECT 'applicants', role, COUNT(*), 0 FROM users WHERE role='APPLICANT' GROUP BY role";
+
+    /**
+     * Figures for the Reports and Employment Status metric cards.
+     *
+     * Read from dashboard_metrics, which the write methods below keep up to date in the same
+     * transaction as the row they change, so opening a dashboard reads a handful of rows instead
+     * of aggregating the tables. {@link #reconcileDashboardMetrics()} rebuilds it from scratch.
+     */
+    public static DashboardMetrics getDashboardMetrics() throws SQLException {
+        DashboardMetrics m = new DashboardMetrics();
+        try (Connection conn = getConnection();
+             PreparedStatement s = conn.prepareStatement("SELECT source,status,row_count,amount FROM dashboard_metrics");
+             ResultSet rs = s.executeQuery()) {
+            while (rs.next()) {
+                addMetric(m, rs.getString(1), rs.getString(2), rs.getLong(3), rs.getDouble(4));
+            }
+        }
+        return m;
+    }
+
+    private static void addMetric(DashboardMetrics m, String source, String status, long count, double amount) {
+        switch (source) {
+            case "employment":
+                m.employmentRecords += count;
+                if ("EMPLOYED".equals(status)) {
+                    m.employed += count;
+                    m.totalMonthlyIncome += amount;
+                }
+                break;
+            case "applications":
+                m.applications += count;
+                if ("APPROVED".equals(status)) m.approvedApplications += count;
+                break;
+            case "training":
+                if ("ACTIVE".equals(status)) m.activeTrainingPrograms += count;
+                break;
+            case "applicants":
+                m.applicants += count;
+                break;
+        }
+    }
+
+    /**
+     * Apply a change to one dashboard_metrics counter. Call on the connection (and inside the
+     * transaction) that made the matching write, so the counter commits or rolls back with it.
+     *
+     * Two transactions can both find a new counter missing and both insert it; the second insert
+     * waits for the first and then hits the primary key. H2 rolls back only that statement, so the
+     * loser adds to the row the winner committed instead of failing the caller's write. (H2 1.4.200's
+     * MERGE ... USING has the same race, so it would not help here.)
+     */
+    static void adjustMetric(Connection conn, String source, String status, long rows, double amount) throws SQLException {
+        if (rows == 0 && amount == 0) return;
+        String key = status != null ? status : "";
+        if (addToMetric(conn, source, key, rows, amount)) return;
+        try (PreparedStatement i = conn.prepareStatement(
+                "INSERT INTO dashboard_metrics(source,status,row_count,amount) VALUES(?,?,?,?)")) {
+            i.setString(1, source); i.setString(2, key); i.setLong(3, rows); i.setDouble(4, amount);
+            i.executeUpdate();
+        } catch (SQLException e) {
+            if (!"23505".equals(e.getSQLState()) || !addToMetric(conn, source, key, rows, amount)) throw e;
+        }
+    }
+
+    private static boolean addToMetric(Connection conn, String source, String key, long rows, double amount) throws SQLException {
+        try (PreparedStatement u = conn.prepareStatement(
+                "UPDATE dashboard_metrics SET row_count=row_count+?, amount=amount+? WHERE source=? AND status=?")) {
+            u.setLong(1, rows); u.setDouble(2, amount); u.setString(3, source); u.setString(4, key);
+            return u.executeUpdate() > 0;
+        }
+    }
+
+    /**
+     * Bring dashboard_metrics back in line with the tables and report every counter that had
+     * drifted (for example after rows were edited through the H2 web console). Only runs when
+     * asked for (see Main). The first pass compares without locking anything, so writers are not
+     * held up when the counters are fine; only when something drifted are the counters locked and
+     * compared again, and just the drifted ones corrected in place. A writer waiting on one of
+     * those rows then adds its change to the corrected value rather than failing.
+     * @return one line per drifted (source, status) counter; empty when everything matched
+     */
+    public static List<String> reconcileDashboardMetrics() throws SQLException {
+        long start = System.nanoTime();
+        List<String> drift;
+        try (Connection conn = getConnection()) {
+            drift = metricDrift(conn, "", new HashMap<>());
+            if (!drift.isEmpty()) {
+                conn.setAutoCommit(false);
+                try {
+                    // Compare again under the lock; a write may have landed since the first pass
+                    Map<String, double[]> corrections = new LinkedHashMap<>();
+                    drift = metricDrift(conn, " FOR UPDATE", corrections);
+                    for (Map.Entry<String, double[]> c : corrections.entrySet()) {
+                        String[] key = c.getKey().split("/", 2);
+                        double[] delta = c.getValue();
+                        if (delta[2] == 0) {
+                            deleteMetric(conn, key[0], key[1]);
+                        } else {
+                            // The row is locked (or missing), so adding the difference sets it exactly
+                            adjustMetric(conn, key[0], key[1], (long) delta[0], delta[1]);
+                        }
+                    }
+                    conn.commit();
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
+                } finally {
+                    conn.setAutoCommit(true);
+                }
+            }
+        }
+        long ms = (System.nanoTime() - start) / 1_000_000;
+        if (drift.isEmpty()) {
+            System.out.println("Dashboard metrics reconciled in " + ms + " ms: no drift.");
+        } else {
+            System.out.println("Dashboard metrics reconciled in " + ms + " ms: " + drift.size() + " counter(s) corrected.");
+            for (String d : drift) System.out.println("  " + d);
+        }
+        return drift;
+    }
+
+    // One line per counter that differs from the tables; lock is appended to the counter read.
+    // corrections receives source/status -> {count change, amount change, 1 if the tables still have it}
+    private static List<String> metricDrift(Connection conn, String lock, Map<String, double[]> corrections) throws SQLException {
+        Map<String, double[]> stored = new HashMap<>();
+        try (PreparedStatement p = conn.prepareStatement("SELECT source,status,row_count,amount FROM dashboard_metrics" + lock);
+             ResultSet rs = p.executeQuery()) {
+            while (rs.next()) stored.put(rs.getString(1) + "/" + rs.getString(2), new double[]{rs.getLong(3), rs.getDouble(4)});
+        }
+        Map<String, double[]> actual = new LinkedHashMap<>();
+        try (PreparedStatement p = conn.prepareStatement(DASHBOARD_METRICS_SQL);
+             ResultSet rs = p.executeQuery()) {
+            while (rs.next()) actual.put(rs.getString(1) + "/" + rs.getString(2), new double[]{rs.getLong(3), rs.getDouble(4)});
+        }
+        List<String> drift = new ArrayList<>();
+        Set<String> keys = new LinkedHashSet<>(actual.keySet());
+        keys.addAll(stored.keySet());
+        for (String key : keys) {
+            double[] was = stored.getOrDefault(key, new double[2]);
+            double[] is = actual.getOrDefault(key, new double[2]);
+            if (was[0] != is[0] || Math.abs(was[1] - is[1]) > 0.005) {
+                drift.add(String.format("%s: count %d -> %d, amount %.2f -> %.2f", key, (long) was[0], (long) is[0], was[1], is[1]));
+                corrections.put(key, new double[]{is[0] - was[0], is[1] - was[1], actual.containsKey(key) ? 1 : 0});
+            }
+        }
+        return drift;
+    }
+
+    private static void deleteMetric(Connection conn, String source, String status) throws SQLException {
+        try (PreparedStatement p = conn.prepareStatement("DELETE FROM dashboard_metrics WHERE source=? AND status=?")) {
+            p.setString(1, source);
+            p.setString(2, status);
+            p.executeUpdate();
+        }
+    }
+
     // --- ATTENDANCE ---
     public static int recordTimeIn(int applicantId) throws SQLException {
         try (Connection conn = getConnection();
              PreparedStatement p = conn.prepareStatement("INSERT INTO attendance(applicant_id,date,time_in,status) VALUES(?,?,?,?)", Statement.RETURN_GENERATED_KEYS)) {
-            java.time.LocalDate today = java.time.LocalDate.now();
-            java.time.LocalTime now = java.time.LocalTime.now();
             p.setInt(1, applicantId);
-            p.setString(2, today.toString());
-            p.setString(3, now.toString());
+            p.setDate(2, Date.valueOf(LocalDate.now()));
+            p.setTime(3, Time.valueOf(LocalTime.now()));
             p.setString(4, "PRESENT");
             p.executeUpdate();
             ResultSet keys = p.getGeneratedKeys();
@@ -1205,25 +1794,24 @@ public class Database {
     public static void recordTimeOut(int applicantId) throws SQLException {
         try (Connection conn = getConnection();
              PreparedStatement p = conn.prepareStatement("UPDATE attendance SET time_out=?, hours_worked=? WHERE applicant_id=? AND date=? AND time_out IS NULL")) {
-            java.time.LocalDate today = java.time.LocalDate.now();
-            java.time.LocalTime now = java.time.LocalTime.now();
+            Date today = Date.valueOf(LocalDate.now());
+            LocalTime now = LocalTime.now();
             
             // Get time_in for today
             try (PreparedStatement p2 = conn.prepareStatement("SELECT time_in FROM attendance WHERE applicant_id=? AND date=? AND time_out IS NULL")) {
                 p2.setInt(1, applicantId);
-                p2.setString(2, today.toString());
+                p2.setDate(2, today);
                 ResultSet rs = p2.executeQuery();
                 if (rs.next()) {
-                    String timeInStr = rs.getString(1);
-                    java.time.LocalTime timeIn = java.time.LocalTime.parse(timeInStr);
+                    LocalTime timeIn = toLocalTime(rs.getTime(1));
                     long hours = java.time.Duration.between(timeIn, now).toHours();
                     long minutes = java.time.Duration.between(timeIn, now).toMinutes() % 60;
                     double hoursWorked = hours + (minutes / 60.0);
                     
-                    p.setString(1, now.toString());
+                    p.setTime(1, Time.valueOf(now));
                     p.setDouble(2, hoursWorked);
                     p.setInt(3, applicantId);
-                    p.setString(4, today.toString());
+                    p.setDate(4, today);
                     p.executeUpdate();
                 }
             }
@@ -1239,9 +1827,9 @@ public class Database {
             while (rs.next()) {
                 AttendanceRecord att = new AttendanceRecord();
                 att.id = rs.getInt(1);
-                att.date = rs.getString(2);
-                att.timeIn = rs.getString(3);
-                att.timeOut = rs.getString(4);
+                att.date = toLocalDate(rs.getDate(2));
+                att.timeIn = toLocalTime(rs.getTime(3));
+                att.timeOut = toLocalTime(rs.getTime(4));
                 att.status = rs.getString(5);
                 att.hoursWorked = rs.getDouble(6);
                 list.add(att);
@@ -1254,14 +1842,14 @@ public class Database {
         try (Connection conn = getConnection();
              PreparedStatement p = conn.prepareStatement("SELECT attendance_id,date,time_in,time_out,status,hours_worked FROM attendance WHERE applicant_id=? AND date=? ORDER BY attendance_id DESC LIMIT 1")) {
             p.setInt(1, applicantId);
-            p.setString(2, java.time.LocalDate.now().toString());
+            p.setDate(2, Date.valueOf(LocalDate.now()));
             ResultSet rs = p.executeQuery();
             if (rs.next()) {
                 AttendanceRecord att = new AttendanceRecord();
                 att.id = rs.getInt(1);
-                att.date = rs.getString(2);
-                att.timeIn = rs.getString(3);
-                att.timeOut = rs.getString(4);
+                att.date = toLocalDate(rs.getDate(2));
+                att.timeIn = toLocalTime(rs.getTime(3));
+                att.timeOut = toLocalTime(rs.getTime(4));
                 att.status = rs.getString(5);
                 att.hoursWorked = rs.getDouble(6);
                 return att;
@@ -1277,20 +1865,46 @@ public class Database {
             p.setInt(1, jobId);
             p.setString(2, skillName);
             p.executeUpdate();
+            JOB_SKILLS_CACHE.invalidate(jobId);
         }
     }
     
-    public static List<String> getJobRequiredSkills(int jobId) throws SQLException {
-        List<String> list = new ArrayList<>();
-        try (Connection conn = getConnection();
-             PreparedStatement p = conn.prepareStatement("SELECT skill_name FROM job_required_skills WHERE job_id=?")) {
-            p.setInt(1, jobId);
-            ResultSet rs = p.executeQuery();
-            while (rs.next()) {
-                list.add(rs.getString(1));
+    // Add several required skills to a job in one batch; blank and duplicate names are skipped
+    public static void addJobRequiredSkills(int jobId, Collection<String> skillNames) throws SQLException {
+        Set<String> unique = new LinkedHashSet<>();
+        for (String skill : skillNames) {
+            if (skill != null && !skill.trim().isEmpty()) unique.add(skill.trim());
+        }
+        if (unique.isEmpty()) return;
+        try (Connection conn = getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement p = conn.prepareStatement("INSERT INTO job_required_skills(job_id,skill_name) VALUES(?,?)")) {
+                for (String skill : unique) {
+                    p.setInt(1, jobId);
+                    p.setString(2, skill);
+                    p.addBatch();
+                }
+                p.executeBatch();
+                conn.commit();
+                JOB_SKILLS_CACHE.invalidate(jobId);
             }
         }
-        return list;
+    }
+    
+    // Served from JOB_SKILLS_CACHE (LRU per job) after the first call; the list is shared and read-only
+    public static List<String> getJobRequiredSkills(int jobId) throws SQLException {
+        return JOB_SKILLS_CACHE.get(jobId, () -> {
+            List<String> list = new ArrayList<>();
+            try (Connection conn = getConnection();
+                 PreparedStatement p = conn.prepareStatement("SELECT skill_name FROM job_required_skills WHERE job_id=?")) {
+                p.setInt(1, jobId);
+                ResultSet rs = p.executeQuery();
+                while (rs.next()) {
+                    list.add(rs.getString(1));
+                }
+            }
+            return Collections.unmodifiableList(list);
+        });
     }
     
     public static List<JobMatchRecord> getMatchingJobsForApplicant(int applicantId) throws SQLException {
@@ -1323,6 +1937,126 @@ public class Database {
         return list;
     }
 
+    /** Receives rows from the stream* methods; may throw IOException so exports can write straight to disk. */
+    public interface RecordSink<T> {
+        void accept(T record) throws IOException;
+    }
+
+    private interface RowReader<T> {
+        T read(ResultSet rs) throws SQLException;
+    }
+
+    // Rows H2 hands over per cursor fetch for the stream* methods
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    /**
+     * Run a query on a forward-only, read-only cursor and pass each row to the sink as it is read,
+     * so memory stays flat however large the table is. Lazy query execution is switched on for the
+     * duration so H2 produces rows on demand rather than materializing the result first.
+     */
+    private static <T> long stream(String sql, RowReader<T> reader, RecordSink<T> sink) throws SQLException, IOException {
+        try (Connection conn = getConnection()) {
+            try (Statement s = conn.createStatement()) {
+                s.execute("SET LAZY_QUERY_EXECUTION 1");
+            }
+            try (PreparedStatement p = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                p.setFetchSize(STREAM_FETCH_SIZE);
+                long rows = 0;
+                try (ResultSet rs = p.executeQuery()) {
+                    while (rs.next()) {
+                        sink.accept(reader.read(rs));
+                        rows++;
+                    }
+                }
+                return rows;
+            } finally {
+                // The connection goes back to the pool; leave the session as other callers expect it
+                try (Statement s = conn.createStatement()) {
+                    s.execute("SET LAZY_QUERY_EXECUTION 0");
+                }
+            }
+        }
+    }
+
+    public enum PageDirection { NEXT, PREVIOUS }
+
+    /**
+     * One screen of rows ordered by id, newest first, plus what the caller needs to move on:
+     * pass lastKey with NEXT for the following (older) screen, firstKey with PREVIOUS for the one before.
+     */
+    public static class Page<T> {
+        public List<T> rows = new ArrayList<>();
+        public Integer firstKey;
+        public Integer lastKey;
+        public boolean hasNext;
+        public boolean hasPrevious;
+    }
+
+    /**
+     * Keyset pagination over a select: seeks past fromKey on the id index instead of using OFFSET,
+     * so every screen costs the same whether it is the first or the ten-thousandth.
+     * fromKey is exclusive; null means the first (newest) screen. One extra row is read to tell
+     * whether there is another screen in the requested direction. newestFirstSelect is the same
+     * select, optionally with an index hint, used when reading in id DESC order; the descending
+     * id indexes come from schema migration V4.
+     */
+    private static <T> Page<T> page(String select, String newestFirstSelect, boolean selectHasWhere, String keyColumn, RowReader<T> reader,
+                                    ToIntFunction<T> keyOf, Integer fromKey, PageDirection direction, int limit) throws SQLException {
+        boolean backwards = fromKey != null && direction == PageDirection.PREVIOUS;
+        StringBuilder sql = new StringBuilder(backwards ? select : newestFirstSelect);
+        if (fromKey != null) {
+            sql.append(selectHasWhere ? " AND " : " WHERE ").append(keyColumn).append(backwards ? " > ?" : " < ?");
+        }
+        sql.append(" ORDER BY ").append(keyColumn).append(backwards ? " ASC" : " DESC").append(" LIMIT ?");
+
+        Page<T> page = new Page<>();
+        try (Connection conn = getConnection();
+             PreparedStatement p = conn.prepareStatement(sql.toString())) {
+            int i = 1;
+            if (fromKey != null) p.setInt(i++, fromKey);
+            p.setInt(i, limit + 1);
+            try (ResultSet rs = p.executeQuery()) {
+                while (rs.next()) {
+                    page.rows.add(reader.read(rs));
+                }
+            }
+        }
+        boolean more = page.rows.size() > limit;
+        if (more) page.rows.remove(page.rows.size() - 1);
+        if (backwards) {
+            Collections.reverse(page.rows);
+            page.hasPrevious = more;
+            page.hasNext = true;
+        } else {
+            page.hasNext = more;
+            page.hasPrevious = fromKey != null;
+        }
+        if (!page.rows.isEmpty()) {
+            page.firstKey = keyOf.applyAsInt(page.rows.get(0));
+            page.lastKey = keyOf.applyAsInt(page.rows.get(page.rows.size() - 1));
+        }
+        return page;
+    }
+
+    // "?,?,?" for an IN list of n values
+    private static String placeholders(int n) {
+        return String.join(",", Collections.nCopies(n, "?"));
+    }
+
+    // Keys produced by an executeBatch/executeUpdate, in insert order
+    private static List<Integer> generatedKeys(PreparedStatement p) throws SQLException {
+        List<Integer> ids = new ArrayList<>();
+        try (ResultSet keys = p.getGeneratedKeys()) {
+            while (keys.next()) ids.add(keys.getInt(1));
+        }
+        return ids;
+    }
+
+    // Null-safe conversions from JDBC temporal values
+    private static LocalDateTime toLocalDateTime(Timestamp t) { return t != null ? t.toLocalDateTime() : null; }
+    private static LocalDate toLocalDate(Date d) { return d != null ? d.toLocalDate() : null; }
+    private static LocalTime toLocalTime(Time t) { return t != null ? t.toLocalTime() : null; }
+
     // --- Simple record holder classes ---
     public static class ApplicantRecord { public int userId; public String username; public int personId; public String name; public int age; public String phone; }
     public static class JobRecord { public int id; public String title; public String description; public double salary; }
@@ -1341,28 +2075,43 @@ public class Database {
         public int age;
         public String address;
         public String experience;
-        public String submissionDate;
+        public LocalDateTime submissionDate;
     }
     public static class HouseholdRecord { public int id; public String name; public String address; public List<Integer> memberIds = new ArrayList<>(); }
+    public static class CompactHouseholdRecord { public int id; public String name; public String address; public int[] memberIds; }
+    public static class ApplicationDetailRecord { public ApplicationRecord application; public InterviewRecord interview; }
     public static class ResourceRecord { public int id; public String name; public int quantity; }
-    public static class SimulationRecord { public int id; public String description; public String runAt; public String results; }
-    public static class ApplicantNeedRecord { public int id; public String description; public String category; public String status; public String submittedDate; }
+    public static class SimulationRecord { public int id; public String description; public LocalDateTime runAt; public String results; }
+    public static class ApplicantNeedRecord { public int id; public String description; public String category; public String status; public LocalDateTime submittedDate; }
     public static class SkillRecord { public int id; public String skillName; public String skillLevel; }
     public static class TrainingProgramRecord { public int id; public String title; public String description; public int durationDays; public String skillsTaught; public String status; }
-    public static class TrainingEnrollmentRecord { public int enrollmentId; public int applicantId; public String applicantUsername; public int programId; public String programTitle; public String enrollmentDate; public String completionDate; public String status; }
-    public static class EmploymentStatusRecord { public int id; public int applicantId; public String applicantName; public int jobId; public String jobTitle; public String startDate; public String endDate; public double monthlyIncome; public String status; }
+    public static class TrainingEnrollmentRecord { public int enrollmentId; public int applicantId; public String applicantUsername; public int programId; public String programTitle; public LocalDateTime enrollmentDate; public LocalDateTime completionDate; public String status; }
+    public static class EmploymentStatusRecord { public int id; public int applicantId; public String applicantName; public int jobId; public String jobTitle; public LocalDateTime startDate; public LocalDateTime endDate; public double monthlyIncome; public String status; }
+    public static class DashboardMetrics {
+        public long applicants;
+        public long employmentRecords;
+        public long employed;
+        public double totalMonthlyIncome;
+        public long applications;
+        public long approvedApplications;
+        public long activeTrainingPrograms;
+
+        public double averageIncome() { return employed > 0 ? totalMonthlyIncome / employed : 0; }
+        public double employmentRate() { return applicants > 0 ? employed * 100.0 / applicants : 0; }
+        public double approvalRate() { return applications > 0 ? approvedApplications * 100.0 / applications : 0; }
+    }
     public static class JobMatchRecord { public int jobId; public String title; public String description; public double salary; public int requiredSkills; public int matchedSkills; public int matchPercentage; }
-    public static class AttendanceRecord { public int id; public String date; public String timeIn; public String timeOut; public String status; public double hoursWorked; }
+    public static class AttendanceRecord { public int id; public LocalDate date; public LocalTime timeIn; public LocalTime timeOut; public String status; public double hoursWorked; }
     public static class InterviewRecord { 
         public int id; 
         public int applicationId; 
         public int applicantId; 
         public int jobId; 
-        public String interviewDate; 
+        public LocalDate interviewDate; 
         public String interviewTime; 
         public String status; 
         public String notes; 
-        public String createdDate;
+        public LocalDateTime createdDate;
         public String jobTitle;
         public String applicantUsername;
         public String applicantName;
@@ -0,0 +1,122 @@
+package com.woms.database;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs EXPLAIN on SQL statements and reports which ones still do a full table scan.
+ *
+ * Start the app with -Dwoms.db.indexAdvisor=true so the connection pool records every
+ * distinct statement that Database prepares once schema migrations are done;
+ * {@link Database#runIndexAdvisor()} then explains all of them. Parameters are bound as NULL, which is enough for H2 to choose a plan.
+ *
+ * Run this class directly to drive every read-only Database.get* method once and print the report:
+ *   java -cp ".;lib/h2-1.4.200.jar" com.woms.database.IndexAdvisor
+ */
+public class IndexAdvisor {
+
+    // H2 marks scans in the plan as /* PUBLIC.TABLE.tableScan */
+    private static final Pattern TABLE_SCAN = Pattern.compile("/\\*\\s*\\w+\\.(\\w+)\\.tableScan");
+
+    public static class Finding {
+        public String sql;
+        public String plan;
+        public String error;
+        public List<String> scannedTables = new ArrayList<>();
+
+        public boolean isScan() {
+            return !scannedTables.isEmpty();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Database.init();
+        // Capture after init so the migration and seeding SQL is not explained
+        Database.setIndexAdvisorCapture(true);
+        for (Method m : Database.class.getMethods()) {
+            if (!Modifier.isStatic(m.getModifiers()) || !m.getName().startsWith("get")) continue;
+            if (m.getReturnType() == Connection.class) continue;
+            Object[] callArgs = sampleArguments(m.getParameterTypes());
+            if (callArgs == null) continue;
+            try {
+                m.invoke(null, callArgs);
+            } catch (Exception e) {
+                System.err.println("Skipped " + m.getName() + ": " + e.getCause());
+            }
+        }
+        Database.runIndexAdvisor();
+    }
+
+    // Simple placeholder values for int/String parameters; null when the method takes anything else
+    private static Object[] sampleArguments(Class<?>[] types) {
+        Object[] values = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == int.class) values[i] = 1;
+            else if (types[i] == String.class) values[i] = "";
+            else return null;
+        }
+        return values;
+    }
+
+    public static List<Finding> analyze(Connection conn, Collection<String> sqlStatements) {
+        List<Finding> findings = new ArrayList<>();
+        for (String sql : sqlStatements) {
+            if (!isExplainable(sql)) continue;
+            Finding f = new Finding();
+            f.sql = sql;
+            try (PreparedStatement p = conn.prepareStatement("EXPLAIN " + sql)) {
+                int params = p.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= params; i++) {
+                    p.setNull(i, Types.VARCHAR);
+                }
+                try (ResultSet rs = p.executeQuery()) {
+                    f.plan = rs.next() ? rs.getString(1) : "";
+                }
+                Matcher m = TABLE_SCAN.matcher(f.plan);
+                while (m.find()) {
+                    f.scannedTables.add(m.group(1).toLowerCase());
+                }
+            } catch (SQLException e) {
+                f.error = e.getMessage();
+            }
+            findings.add(f);
+        }
+        return findings;
+    }
+
+    public static String report(List<Finding> findings) {
+        StringBuilder sb = new StringBuilder();
+        int scans = 0;
+        for (Finding f : findings) {
+            if (f.isScan()) scans++;
+        }
+        sb.append("========================================\n");
+        sb.append("Index advisor: ").append(findings.size()).append(" statement(s) explained, ")
+                .append(scans).append(" with full table scans\n");
+        sb.append("========================================\n");
+        for (Finding f : findings) {
+            if (f.error != null) {
+                sb.append("[ERROR] ").append(f.sql).append("\n        ").append(f.error).append("\n");
+            } else if (f.isScan()) {
+                sb.append("[SCAN ").append(String.join(",", f.scannedTables)).append("] ").append(f.sql).append("\n");
+            }
+        }
+        return sb.toString();
+    }
+
+    // Only reads and row-targeting writes have plans worth checking
+    private static boolean isExplainable(String sql) {
+        String head = sql.trim().toUpperCase();
+        return head.startsWith("SELECT") || head.startsWith("UPDATE") || head.startsWith("DELETE");
+    }
+}
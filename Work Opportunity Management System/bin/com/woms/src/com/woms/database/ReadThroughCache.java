@@ -0,0 +1,113 @@
+package com.woms.database;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Size-bounded LRU read-through cache for reference data that admins change rarely
+ * (jobs, training programs, resources, job skills).
+ *
+ * {@link #get} returns the cached value or runs the loader and keeps its result; writers
+ * call {@link #invalidate} / {@link #invalidateAll} after they commit. A load that was
+ * already running when an invalidation happened is returned to its caller but not cached,
+ * so a slow read can never put pre-write data back. Cached values are shared between
+ * callers and must be treated as read-only.
+ */
+public class ReadThroughCache<K, V> {
+
+    public interface Loader<V> {
+        V load() throws SQLException;
+    }
+
+    private final String name;
+    private final int maxEntries;
+    private final LinkedHashMap<K, V> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    // Bumped by every invalidation; a load only caches its result if this did not move meanwhile
+    private long generation;
+
+    public ReadThroughCache(String name, int maxEntries) {
+        this.name = name;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.entries = new LinkedHashMap<K, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() <= ReadThroughCache.this.maxEntries) return false;
+                evictions.incrementAndGet();
+                return true;
+            }
+        };
+    }
+
+    public V get(K key, Loader<V> loader) throws SQLException {
+        long loadGeneration;
+        synchronized (this) {
+            V cached = entries.get(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+            loadGeneration = generation;
+        }
+        // Load outside the lock so one slow query does not hold up hits on other keys
+        misses.incrementAndGet();
+        V loaded = loader.load();
+        synchronized (this) {
+            if (loaded != null && generation == loadGeneration) {
+                entries.put(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    public synchronized void invalidate(K key) {
+        generation++;
+        invalidations.incrementAndGet();
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        invalidations.incrementAndGet();
+        entries.clear();
+    }
+
+    public synchronized Stats getStats() {
+        Stats s = new Stats();
+        s.name = name;
+        s.size = entries.size();
+        s.maxEntries = maxEntries;
+        s.hits = hits.get();
+        s.misses = misses.get();
+        s.evictions = evictions.get();
+        s.invalidations = invalidations.get();
+        return s;
+    }
+
+    /** Point-in-time snapshot of cache counters. */
+    public static class Stats {
+        public String name;
+        public int size;
+        public int maxEntries;
+        public long hits;
+        public long misses;
+        public long evictions;
+        public long invalidations;
+
+        public double getHitRate() {
+            long total = hits + misses;
+            return total > 0 ? hits / (double) total : 0.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s[size=%d/%d hits=%d misses=%d evicted=%d invalidated=%d hitRate=%.1f%%]",
+                    name, size, maxEntries, hits, misses, evictions, invalidations, getHitRate() * 100);
+        }
+    }
+}
@@ -0,0 +1,485 @@
+package com.woms.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Versioned schema migrations for the WOMS database.
+ *
+ * Applied versions are recorded in schema_version. On startup {@link #migrate(Connection)}
+ * reads the current version once and returns immediately when nothing is pending; otherwise
+ * each pending migration runs in its own transaction and its timing is stored with it.
+ * V3 is the exception: it commits per backfill chunk and per column, so a failure part-way leaves
+ * the columns converted so far in place; re-running picks up the ones still VARCHAR.
+ *
+ * H2 commits implicitly on DDL, so migrations are written to be safe to re-run
+ * (IF NOT EXISTS etc.) in case the app dies between the DDL and the version insert.
+ * New migrations go at the end of {@link #MIGRATIONS} with the next version number.
+ */
+public class SchemaMigrator {
+
+    public interface MigrationStep {
+        void apply(Connection conn, Statement s) throws SQLException;
+    }
+
+    public static class Migration {
+        public final int version;
+        public final String description;
+        final MigrationStep step;
+
+        Migration(int version, String description, MigrationStep step) {
+            this.version = version;
+            this.description = description;
+            this.step = step;
+        }
+    }
+
+    private static final List<Migration> MIGRATIONS;
+
+    static {
+        List<Migration> list = new ArrayList<>();
+        list.add(new Migration(1, "Baseline schema", SchemaMigrator::baselineSchema));
+        list.add(new Migration(2, "Secondary indexes for applicant lookups", SchemaMigrator::secondaryIndexes));
+        list.add(new Migration(3, "Native DATE/TIME/TIMESTAMP columns", SchemaMigrator::temporalColumns));
+        list.add(new Migration(4, "Descending id indexes for keyset paging", SchemaMigrator::pagingIndexes));
+        list.add(new Migration(5, "Maintained dashboard metric counters", SchemaMigrator::dashboardMetrics));
+        MIGRATIONS = Collections.unmodifiableList(list);
+    }
+
+    // Indexes the hot per-applicant / per-application queries rely on
+    private static final String[][] MANAGED_INDEXES = {
+            {"idx_applications_applicant", "applications", "applicant_id"},
+            {"idx_applications_job", "applications", "job_id"},
+            {"idx_attendance_applicant_date", "attendance", "applicant_id", "date"},
+            {"idx_applicant_skills_applicant", "applicant_skills", "applicant_id"},
+            {"idx_applicant_needs_applicant", "applicant_needs", "applicant_id"},
+            {"idx_interviews_application", "interviews", "application_id"},
+            {"idx_training_enrollments_applicant", "training_enrollments", "applicant_id"},
+            {"idx_employment_status_applicant", "employment_status", "applicant_id"},
+            {"idx_persons_user", "persons", "user_id"},
+            {"idx_users_role", "users", "role"},
+    };
+
+    // {index, table, id column}: H2 only returns rows "index sorted" for ORDER BY id DESC
+    // when an index runs in that direction; the primary key index is ascending only
+    private static final String[][] PAGING_INDEXES = {
+            {"idx_applications_id_desc", "applications", "application_id"},
+            {"idx_interviews_id_desc", "interviews", "interview_id"},
+            {"idx_employment_status_id_desc", "employment_status", "employment_id"},
+            {"idx_users_id_desc", "users", "user_id"},
+    };
+
+    // {table, primary key, column, SQL type} for values that used to be stored as java.time toString()
+    private static final String[][] TEMPORAL_COLUMNS = {
+            {"applications", "application_id", "submission_date", "TIMESTAMP"},
+            {"applicant_needs", "need_id", "submitted_date", "TIMESTAMP"},
+            {"simulations", "simulation_id", "run_at", "TIMESTAMP"},
+            {"training_enrollments", "enrollment_id", "enrollment_date", "TIMESTAMP"},
+            {"training_enrollments", "enrollment_id", "completion_date", "TIMESTAMP"},
+            {"employment_status", "employment_id", "start_date", "TIMESTAMP"},
+            {"employment_status", "employment_id", "end_date", "TIMESTAMP"},
+            {"attendance", "attendance_id", "date", "DATE"},
+            {"attendance", "attendance_id", "time_in", "TIME"},
+            {"attendance", "attendance_id", "time_out", "TIME"},
+            {"interviews", "interview_id", "interview_date", "DATE"},
+            {"interviews", "interview_id", "created_date", "TIMESTAMP"},
+    };
+
+    // Rows converted per commit during the V3 backfill
+    private static final int BACKFILL_CHUNK = 1000;
+
+    public static List<Migration> getMigrations() {
+        return MIGRATIONS;
+    }
+
+    public static int latestVersion() {
+        return MIGRATIONS.get(MIGRATIONS.size() - 1).version;
+    }
+
+    /**
+     * Bring the schema up to {@link #latestVersion()}.
+     * @return number of migrations applied (0 on the fast path)
+     */
+    public static int migrate(Connection conn) throws SQLException {
+        int current = currentVersion(conn);
+        if (current >= latestVersion()) {
+            return 0;
+        }
+
+        try (Statement s = conn.createStatement()) {
+            s.execute("CREATE TABLE IF NOT EXISTS schema_version(" +
+                    "version INTEGER PRIMARY KEY, description VARCHAR(255), " +
+                    "applied_at TIMESTAMP, duration_ms BIGINT)");
+        }
+
+        int applied = 0;
+        boolean autoCommit = conn.getAutoCommit();
+        try {
+            for (Migration m : MIGRATIONS) {
+                if (m.version <= current) continue;
+                long start = System.nanoTime();
+                conn.setAutoCommit(false);
+                try (Statement s = conn.createStatement()) {
+                    m.step.apply(conn, s);
+                    long durationMs = (System.nanoTime() - start) / 1_000_000;
+                    try (PreparedStatement p = conn.prepareStatement(
+                            "INSERT INTO schema_version(version,description,applied_at,duration_ms) VALUES(?,?,CURRENT_TIMESTAMP,?)")) {
+                        p.setInt(1, m.version);
+                        p.setString(2, m.description);
+                        p.setLong(3, durationMs);
+                        p.executeUpdate();
+                    }
+                    conn.commit();
+                    applied++;
+                    System.out.println("Applied schema migration V" + m.version + " (" + m.description + ") in " + durationMs + " ms");
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw new SQLException("Schema migration V" + m.version + " (" + m.description + ") failed: " + e.getMessage(), e);
+                }
+            }
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+        return applied;
+    }
+
+    // One read; a missing schema_version table means nothing has been recorded yet
+    public static int currentVersion(Connection conn) throws SQLException {
+        try (PreparedStatement p = conn.prepareStatement("SELECT MAX(version) FROM schema_version");
+             ResultSet rs = p.executeQuery()) {
+            return rs.next() ? rs.getInt(1) : 0;
+        } catch (SQLException e) {
+            // 42S02 / 42102: table not found
+            if ("42S02".equals(e.getSQLState()) || e.getErrorCode() == 42102) {
+                return 0;
+            }
+            throw e;
+        }
+    }
+
+    // --- migrations ---
+
+    // V1: tables as they existed before versioning, including the old email -> username fix-up
+    private static void baselineSchema(Connection conn, Statement s) throws SQLException {
+        // Migrate from email to username if old schema exists (do this FIRST before creating tables)
+        boolean hasEmailColumn;
+        try (ResultSet columns = conn.getMetaData().getColumns(null, null, "USERS", "EMAIL")) {
+            hasEmailColumn = columns.next();
+        }
+        if (hasEmailColumn) {
+            System.out.println("Detected old schema with email column. Migrating to username...");
+            s.execute("SET REFERENTIAL_INTEGRITY FALSE");
+            s.execute("CREATE TABLE users_backup AS SELECT * FROM users");
+            // Drop dependent tables first (they are recreated below)
+            s.execute("DROP TABLE IF EXISTS household_members");
+            s.execute("DROP TABLE IF EXISTS persons");
+            s.execute("DROP TABLE IF EXISTS applications");
+            s.execute("DROP TABLE IF EXISTS applicant_needs");
+            s.execute("DROP TABLE IF EXISTS applicant_skills");
+            s.execute("DROP TABLE IF EXISTS training_enrollments");
+            s.execute("DROP TABLE IF EXISTS employment_status");
+            s.execute("DROP TABLE users");
+            s.execute("CREATE TABLE users(" +
+                    "user_id INTEGER PRIMARY KEY AUTO_INCREMENT, " +
+                    "username VARCHAR(255) UNIQUE, password VARCHAR(255), role VARCHAR(50))");
+            // Migrate data (use email as username)
+            s.execute("INSERT INTO users(user_id, username, password, role) " +
+                    "SELECT user_id, email, password, role FROM users_backup");
+            s.execute("DROP TABLE users_backup");
+            s.execute("SET REFERENTIAL_INTEGRITY TRUE");
+            System.out.println("Migration completed!");
+        }
+
+        // Enable foreign key constraints for H2
+        s.execute("SET REFERENTIAL_INTEGRITY TRUE");
+
+        // users
+        s.execute("CREATE TABLE IF NOT EXISTS users(" +
+                "user_id INTEGER PRIMARY KEY AUTO_INCREMENT, " +
+                "username VARCHAR(255) UNIQUE, password VARCHAR(255), role VARCHAR(50))");
+        // persons
+        s.execute("CREATE TABLE IF NOT EXISTS persons(" +
+                "person_id INTEGER PRIMARY KEY AUTO_INCREMENT, " +
+                "user_id INTEGER, name VARCHAR(255), age INTEGER, phone VARCHAR(50), " +
+                "FOREIGN KEY(user_id) REFERENCES users(user_id))");
+        // jobs
+        s.execute("CREATE TABLE IF NOT EXISTS jobs(" +
+                "job_id INTEGER PRIMARY KEY AUTO_INCREMENT, title VARCHAR(255), description VARCHAR(1000), salary DOUBLE)");
+        // applications
+        s.execute("CREATE TABLE IF NOT EXISTS applications(" +
+                "application_id INTEGER PRIMARY KEY AUTO_INCREMENT, job_id INTEGER, applicant_id INTEGER, status VARCHAR(50), " +
+                "first_name VARCHAR(255), middle_name VARCHAR(255), last_name VARCHAR(255), gender VARCHAR(50), " +
+                "age INTEGER, address VARCHAR(500), experience VARCHAR(2000), submission_date VARCHAR(255), " +
+                "FOREIGN KEY(job_id) REFERENCES jobs(job_id), FOREIGN KEY(applicant_id) REFERENCES users(user_id))");
+        // Databases created before submission_date existed
+        s.execute("ALTER TABLE applications ADD COLUMN IF NOT EXISTS submission_date VARCHAR(255)");
+        // households
+        s.execute("CREATE TABLE IF NOT EXISTS households(" +
+                "household_id INTEGER PRIMARY KEY AUTO_INCREMENT, name VARCHAR(255), address VARCHAR(500))");
+        // household_members
+        s.execute("CREATE TABLE IF NOT EXISTS household_members(" +
+                "household_id INTEGER, applicant_id INTEGER, " +
+                "PRIMARY KEY(household_id, applicant_id), " +
+                "FOREIGN KEY(household_id) REFERENCES households(household_id), FOREIGN KEY(applicant_id) REFERENCES users(user_id))");
+        // resources
+        s.execute("CREATE TABLE IF NOT EXISTS resources(" +
+                "resource_id INTEGER PRIMARY KEY AUTO_INCREMENT, name VARCHAR(255), quantity INTEGER)");
+        // simulations
+        s.execute("CREATE TABLE IF NOT EXISTS simulations(" +
+                "simulation_id INTEGER PRIMARY KEY AUTO_INCREMENT, description VARCHAR(1000), run_at VARCHAR(255), results VARCHAR(5000))");
+        // applicant_needs
+        s.execute("CREATE TABLE IF NOT EXISTS applicant_needs(" +
+                "need_id INTEGER PRIMARY KEY AUTO_INCREMENT, applicant_id INTEGER, need_description VARCHAR(1000), " +
+                "category VARCHAR(100), status VARCHAR(50), submitted_date VARCHAR(255), " +
+                "FOREIGN KEY(applicant_id) REFERENCES users(user_id))");
+        // applicant_skills
+        s.execute("CREATE TABLE IF NOT EXISTS applicant_skills(" +
+                "skill_id INTEGER PRIMARY KEY AUTO_INCREMENT, applicant_id INTEGER, skill_name VARCHAR(255), " +
+                "skill_level VARCHAR(50), FOREIGN KEY(applicant_id) REFERENCES users(user_id))");
+        // training_programs
+        s.execute("CREATE TABLE IF NOT EXISTS training_programs(" +
+                "program_id INTEGER PRIMARY KEY AUTO_INCREMENT, title VARCHAR(255), description VARCHAR(1000), " +
+                "duration_days INTEGER, skills_taught VARCHAR(500), status VARCHAR(50))");
+        // training_enrollments
+        s.execute("CREATE TABLE IF NOT EXISTS training_enrollments(" +
+                "enrollment_id INTEGER PRIMARY KEY AUTO_INCREMENT, applicant_id INTEGER, program_id INTEGER, " +
+                "enrollment_date VARCHAR(255), completion_date VARCHAR(255), status VARCHAR(50), " +
+                "FOREIGN KEY(applicant_id) REFERENCES users(user_id), FOREIGN KEY(program_id) REFERENCES training_programs(program_id))");
+        // employment_status
+        s.execute("CREATE TABLE IF NOT EXISTS employment_status(" +
+                "employment_id INTEGER PRIMARY KEY AUTO_INCREMENT, applicant_id INTEGER, job_id INTEGER, " +
+                "start_date VARCHAR(255), end_date VARCHAR(255), monthly_income DOUBLE, status VARCHAR(50), " +
+                "FOREIGN KEY(applicant_id) REFERENCES users(user_id), FOREIGN KEY(job_id) REFERENCES jobs(job_id))");
+        // job_required_skills
+        s.execute("CREATE TABLE IF NOT EXISTS job_required_skills(" +
+                "job_id INTEGER, skill_name VARCHAR(255), " +
+                "PRIMARY KEY(job_id, skill_name), FOREIGN KEY(job_id) REFERENCES jobs(job_id))");
+        // attendance
+        s.execute("CREATE TABLE IF NOT EXISTS attendance(" +
+                "attendance_id INTEGER PRIMARY KEY AUTO_INCREMENT, applicant_id INTEGER, " +
+                "date VARCHAR(255), time_in VARCHAR(255), time_out VARCHAR(255), " +
+                "status VARCHAR(50), hours_worked DOUBLE, " +
+                "FOREIGN KEY(applicant_id) REFERENCES users(user_id))");
+        // interviews
+        s.execute("CREATE TABLE IF NOT EXISTS interviews(" +
+                "interview_id INTEGER PRIMARY KEY AUTO_INCREMENT, application_id INTEGER, applicant_id INTEGER, job_id INTEGER, " +
+                "interview_date VARCHAR(255), interview_time VARCHAR(255), status VARCHAR(50), notes VARCHAR(1000), " +
+                "created_date VARCHAR(255), " +
+                "FOREIGN KEY(application_id) REFERENCES applications(application_id), " +
+                "FOREIGN KEY(applicant_id) REFERENCES users(user_id), " +
+                "FOREIGN KEY(job_id) REFERENCES jobs(job_id))");
+    }
+
+    // V2: create each managed index unless an existing index (e.g. the one H2 builds
+    // for a foreign key) already starts with the same columns
+    private static void secondaryIndexes(Connection conn, Statement s) throws SQLException {
+        for (String[] def : MANAGED_INDEXES) {
+            String name = def[0];
+            String table = def[1];
+            String[] columns = Arrays.copyOfRange(def, 2, def.length);
+            if (isCoveredByExistingIndex(conn, table, columns)) {
+                continue;
+            }
+            s.execute("CREATE INDEX IF NOT EXISTS " + name + " ON " + table + "(" + String.join(",", columns) + ")");
+            System.out.println("Created index " + name + " on " + table + "(" + String.join(",", columns) + ")");
+        }
+    }
+
+    private static boolean isCoveredByExistingIndex(Connection conn, String table, String[] columns) throws SQLException {
+        // index name -> columns in ordinal order
+        Map<String, List<String>> indexes = new HashMap<>();
+        try (PreparedStatement p = conn.prepareStatement(
+                "SELECT index_name, column_name FROM information_schema.indexes " +
+                "WHERE table_schema='PUBLIC' AND table_name=? ORDER BY index_name, ordinal_position")) {
+            p.setString(1, table.toUpperCase());
+            try (ResultSet rs = p.executeQuery()) {
+                while (rs.next()) {
+                    indexes.computeIfAbsent(rs.getString(1), k -> new ArrayList<>()).add(rs.getString(2));
+                }
+            }
+        }
+        for (List<String> indexColumns : indexes.values()) {
+            if (indexColumns.size() < columns.length) continue;
+            boolean prefix = true;
+            for (int i = 0; i < columns.length; i++) {
+                if (!indexColumns.get(i).equalsIgnoreCase(columns[i])) {
+                    prefix = false;
+                    break;
+                }
+            }
+            if (prefix) return true;
+        }
+        return false;
+    }
+
+    // V4: newest-first indexes so Database.get*Page can seek and stop after one screen
+    private static void pagingIndexes(Connection conn, Statement s) throws SQLException {
+        for (String[] def : PAGING_INDEXES) {
+            s.execute("CREATE INDEX IF NOT EXISTS " + def[0] + " ON " + def[1] + "(" + def[2] + " DESC)");
+            System.out.println("Created index " + def[0] + " on " + def[1] + "(" + def[2] + " DESC)");
+        }
+    }
+
+    // V5: per-status counters behind the dashboard cards, seeded from the current tables;
+    // from here on Database's write methods keep them current
+    private static void dashboardMetrics(Connection conn, Statement s) throws SQLException {
+        s.execute("CREATE TABLE IF NOT EXISTS dashboard_metrics(" +
+                "source VARCHAR(50), status VARCHAR(50), row_count BIGINT NOT NULL, amount DOUBLE NOT NULL, " +
+                "PRIMARY KEY(source, status))");
+        s.executeUpdate("DELETE FROM dashboard_metrics");
+        int rows = s.executeUpdate("INSERT INTO dashboard_metrics(source,status,row_count,amount) " + Database.DASHBOARD_METRICS_SQL);
+        System.out.println("Seeded " + rows + " dashboard metric counter(s)");
+    }
+
+    // V3: swap each VARCHAR timestamp column for a typed one. The new column is filled in
+    // chunks that commit as they go, so a large table never sits in one huge transaction
+    // (and V3 is not atomic). Values that don't parse are NULL in the typed column; the original
+    // text is then kept as <column>_raw instead of being dropped, so nothing is lost.
+    private static void temporalColumns(Connection conn, Statement s) throws SQLException {
+        for (String[] def : TEMPORAL_COLUMNS) {
+            String table = def[0];
+            String pk = def[1];
+            String column = def[2];
+            String type = def[3];
+            String current = columnType(conn, table, column);
+            if (current == null || !current.startsWith("VARCHAR")) {
+                continue; // already converted (or not present)
+            }
+            String typed = column + "_typed";
+            s.execute("ALTER TABLE " + table + " ADD COLUMN IF NOT EXISTS " + typed + " " + type);
+            int[] counts = backfillTemporal(conn, table, pk, column, typed, type);
+
+            // Indexes that include the column have to be dropped before the column can go
+            Map<String, List<String>> dependentIndexes = secondaryIndexesOn(conn, table, column);
+            for (String index : dependentIndexes.keySet()) {
+                s.execute("DROP INDEX IF EXISTS " + index);
+            }
+            String raw = column + "_raw";
+            if (counts[1] > 0) {
+                s.execute("ALTER TABLE " + table + " ALTER COLUMN " + column + " RENAME TO " + raw);
+            } else {
+                s.execute("ALTER TABLE " + table + " DROP COLUMN " + column);
+            }
+            s.execute("ALTER TABLE " + table + " ALTER COLUMN " + typed + " RENAME TO " + column);
+            for (Map.Entry<String, List<String>> index : dependentIndexes.entrySet()) {
+                s.execute("CREATE INDEX IF NOT EXISTS " + index.getKey() + " ON " + table + "(" + String.join(",", index.getValue()) + ")");
+            }
+            conn.commit();
+            System.out.println("Converted " + table + "." + column + " to " + type + " (" + counts[0] + " row(s)" +
+                    (counts[1] > 0 ? ", " + counts[1] + " unparseable value(s) left NULL; original text kept in "
+                            + table + "." + raw : "") + ")");
+        }
+    }
+
+    // Returns {rows converted, rows that could not be parsed}
+    private static int[] backfillTemporal(Connection conn, String table, String pk, String column, String typed, String type) throws SQLException {
+        int converted = 0;
+        int failed = 0;
+        int lastId = Integer.MIN_VALUE;
+        try (PreparedStatement read = conn.prepareStatement(
+                "SELECT " + pk + ", " + column + " FROM " + table + " WHERE " + pk + " > ? AND " + column + " IS NOT NULL ORDER BY " + pk + " LIMIT " + BACKFILL_CHUNK);
+             PreparedStatement write = conn.prepareStatement(
+                "UPDATE " + table + " SET " + typed + "=? WHERE " + pk + "=?")) {
+            while (true) {
+                read.setInt(1, lastId);
+                int rowsRead = 0;
+                int inChunk = 0;
+                try (ResultSet rs = read.executeQuery()) {
+                    while (rs.next()) {
+                        rowsRead++;
+                        lastId = rs.getInt(1);
+                        Object value = parseTemporal(rs.getString(2), type);
+                        if (value == null) {
+                            failed++;
+                            continue;
+                        }
+                        write.setObject(1, value);
+                        write.setInt(2, lastId);
+                        write.addBatch();
+                        inChunk++;
+                    }
+                }
+                if (inChunk > 0) {
+                    write.executeBatch();
+                    converted += inChunk;
+                }
+                conn.commit();
+                if (rowsRead < BACKFILL_CHUNK) {
+                    break;
+                }
+            }
+        }
+        return new int[]{converted, failed};
+    }
+
+    // Values were written with LocalDateTime/LocalDate/LocalTime.toString()
+    private static Object parseTemporal(String raw, String type) {
+        if (raw == null) return null;
+        String v = raw.trim();
+        if (v.isEmpty()) return null;
+        try {
+            switch (type) {
+                case "DATE":
+                    return java.sql.Date.valueOf(LocalDate.parse(v.length() > 10 ? v.substring(0, 10) : v));
+                case "TIME":
+                    return java.sql.Time.valueOf(LocalTime.parse(v));
+                default:
+                    LocalDateTime dt = v.length() == 10 ? LocalDate.parse(v).atStartOfDay() : LocalDateTime.parse(v.replace(' ', 'T'));
+                    return Timestamp.valueOf(dt);
+            }
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static String columnType(Connection conn, String table, String column) throws SQLException {
+        try (PreparedStatement p = conn.prepareStatement(
+                "SELECT type_name FROM information_schema.columns WHERE table_schema='PUBLIC' AND table_name=? AND column_name=?")) {
+            p.setString(1, table.toUpperCase());
+            p.setString(2, column.toUpperCase());
+            try (ResultSet rs = p.executeQuery()) {
+                return rs.next() ? rs.getString(1).toUpperCase() : null;
+            }
+        }
+    }
+
+    // Non-constraint indexes on the table that include the column, with their column lists
+    private static Map<String, List<String>> secondaryIndexesOn(Connection conn, String table, String column) throws SQLException {
+        Map<String, List<String>> all = new LinkedHashMap<>();
+        try (PreparedStatement p = conn.prepareStatement(
+                "SELECT index_name, column_name FROM information_schema.indexes " +
+                "WHERE table_schema='PUBLIC' AND table_name=? AND constraint_name IS NULL ORDER BY index_name, ordinal_position")) {
+            p.setString(1, table.toUpperCase());
+            try (ResultSet rs = p.executeQuery()) {
+                while (rs.next()) {
+                    all.computeIfAbsent(rs.getString(1), k -> new ArrayList<>()).add(rs.getString(2));
+                }
+            }
+        }
+        Map<String, List<String>> dependent = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> e : all.entrySet()) {
+            for (String c : e.getValue()) {
+                if (c.equalsIgnoreCase(column)) {
+                    dependent.put(e.getKey(), e.getValue());
+                    break;
+                }
+            }
+        }
+        return dependent;
+    }
+}
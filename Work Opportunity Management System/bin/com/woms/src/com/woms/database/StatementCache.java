@@ -0,0 +1,224 @@
+package com.woms.database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU cache of prepared statements for one pooled physical connection.
+ *
+ * A cached statement is lent out at most once at a time. Closing the handle that
+ * callers get back clears its parameters and returns it to the cache instead of
+ * closing it, so the next prepareStatement with the same SQL skips the H2 parse.
+ * The handle reports the pool's connection proxy as its connection, and fetch size,
+ * row limits and the query timeout set through it are put back on release, so
+ * nothing leaks to the next caller that borrows the same statement.
+ * Only touched by the thread currently holding the connection, so it is not synchronized.
+ */
+class StatementCache {
+
+    private final Connection physical;
+    private final int maxSize;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+    private final AtomicLong evictions;
+    private final LinkedHashMap<String, CachedStatement> cache;
+
+    StatementCache(Connection physical, int maxSize, AtomicLong hits, AtomicLong misses, AtomicLong evictions) {
+        this.physical = physical;
+        this.maxSize = maxSize;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.cache = new LinkedHashMap<String, CachedStatement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+                if (size() <= StatementCache.this.maxSize) return false;
+                StatementCache.this.evictions.incrementAndGet();
+                CachedStatement cs = eldest.getValue();
+                if (cs.inUse) {
+                    // Still lent out; really close it when the caller is done
+                    cs.evicted = true;
+                } else {
+                    closeQuietly(cs.statement);
+                }
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Return a prepared statement for the SQL, reusing a cached one when it is free.
+     * autoGeneratedKeys is null for the plain prepareStatement(String) variant; owner is the
+     * connection proxy the caller holds, which the statement's getConnection() returns.
+     */
+    PreparedStatement prepare(String sql, Integer autoGeneratedKeys, Connection owner) throws SQLException {
+        String key = autoGeneratedKeys == null ? sql : autoGeneratedKeys + "|" + sql;
+        CachedStatement cs = cache.get(key);
+        if (cs != null && !cs.inUse) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+            PreparedStatement ps = autoGeneratedKeys == null
+                    ? physical.prepareStatement(sql)
+                    : physical.prepareStatement(sql, autoGeneratedKeys);
+            if (cs != null) {
+                // Same SQL already lent out on this connection (nested use); hand out a one-off
+                // that is closed for real when the caller is done
+                cs = new CachedStatement(ps);
+                cs.evicted = true;
+            } else {
+                cs = new CachedStatement(ps);
+                cache.put(key, cs);
+            }
+        }
+        cs.inUse = true;
+        return (PreparedStatement) Proxy.newProxyInstance(
+                StatementCache.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                new StatementHandle(cs, owner));
+    }
+
+    void clear() {
+        for (CachedStatement cs : cache.values()) {
+            closeQuietly(cs.statement);
+        }
+        cache.clear();
+    }
+
+    private void release(CachedStatement cs) {
+        cs.inUse = false;
+        if (cs.evicted) {
+            closeQuietly(cs.statement);
+            return;
+        }
+        try {
+            cs.statement.clearParameters();
+            cs.statement.clearBatch();
+            if (cs.settingsChanged) {
+                cs.restoreSettings();
+            }
+        } catch (SQLException e) {
+            // Broken statement; drop it so the next caller prepares a fresh one
+            cache.values().remove(cs);
+            closeQuietly(cs.statement);
+        }
+    }
+
+    private static void closeQuietly(Statement st) {
+        try {
+            st.close();
+        } catch (SQLException ignored) {
+            // Nothing useful to do here
+        }
+    }
+
+    private static class CachedStatement {
+        final PreparedStatement statement;
+        boolean inUse;
+        boolean evicted;
+        // Set when a caller changed one of the settings below; they are put back on release
+        boolean settingsChanged;
+        private int fetchSize = -1;
+        private int maxRows;
+        private int queryTimeout;
+        private int maxFieldSize;
+        private int fetchDirection;
+
+        CachedStatement(PreparedStatement statement) {
+            this.statement = statement;
+        }
+
+        // Called before the first setting change, so the defaults are only read when needed
+        void rememberSettings() throws SQLException {
+            if (fetchSize >= 0) return;
+            fetchSize = statement.getFetchSize();
+            maxRows = statement.getMaxRows();
+            queryTimeout = statement.getQueryTimeout();
+            maxFieldSize = statement.getMaxFieldSize();
+            fetchDirection = statement.getFetchDirection();
+        }
+
+        void restoreSettings() throws SQLException {
+            statement.setFetchSize(fetchSize);
+            statement.setMaxRows(maxRows);
+            statement.setQueryTimeout(queryTimeout);
+            statement.setMaxFieldSize(maxFieldSize);
+            statement.setFetchDirection(fetchDirection);
+            settingsChanged = false;
+        }
+    }
+
+    // What callers hold; close() puts the statement back in the cache
+    private class StatementHandle implements InvocationHandler {
+        private final CachedStatement cs;
+        private final Connection owner;
+        private boolean closed = false;
+
+        StatementHandle(CachedStatement cs, Connection owner) {
+            this.cs = cs;
+            this.owner = owner;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        release(cs);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || cs.statement.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            if (closed) {
+                throw new SQLException("Statement is closed");
+            }
+            switch (method.getName()) {
+                case "getConnection":
+                    // The pool's proxy, so closing it returns the connection instead of closing it
+                    return owner;
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) return proxy;
+                    throw new SQLException("A pooled statement cannot be unwrapped to " + ((Class<?>) args[0]).getName());
+                case "isWrapperFor":
+                    return ((Class<?>) args[0]).isInstance(proxy);
+                case "setFetchSize":
+                case "setMaxRows":
+                case "setLargeMaxRows":
+                case "setQueryTimeout":
+                case "setMaxFieldSize":
+                case "setFetchDirection":
+                    cs.rememberSettings();
+                    cs.settingsChanged = true;
+                    break;
+                case "closeOnCompletion":
+                case "setCursorName":
+                    // Would outlive this caller and affect whoever borrows the statement next
+                    throw new SQLException(method.getName() + " is not supported on a pooled statement");
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(cs.statement, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
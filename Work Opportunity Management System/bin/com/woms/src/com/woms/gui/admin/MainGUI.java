@@ -9,6 +9,7 @@ import com.woms.gui.panels.ApplicationsPanel;
 import com.woms.gui.panels.EmploymentStatusPanel;
 import com.woms.gui.panels.InterviewsPanel;
 import com.woms.gui.panels.JobsPanel;
+import com.woms.gui.panels.LazyTab;
 import com.woms.gui.panels.ReportsPanel;
 import com.woms.gui.panels.SkillsTrainingPanel;
 import java.awt.*;
@@ -139,14 +140,15 @@ public class MainGUI extends JFrame {
         UIManager.put("TabbedPane.contentAreaColor", new Color(255, 255, 255));
         UIManager.put("TabbedPane.tabAreaBackground", new Color(250, 250, 250));
         
-        // Add tabs
-        tabs.addTab("Applicants", new ApplicantsPanel());
-        tabs.addTab("Jobs", new JobsPanel());
-        tabs.addTab("Applications", new ApplicationsPanel());
-        tabs.addTab("Interviews", new InterviewsPanel());
-        tabs.addTab("Skills & Training", new SkillsTrainingPanel());
-        tabs.addTab("Employment Status", new EmploymentStatusPanel());
-        tabs.addTab("Reports/Export", new ReportsPanel());
+        // Add tabs; each panel is built (and loads its data) the first time its tab is opened
+        tabs.addTab("Applicants", new LazyTab(ApplicantsPanel::new));
+        tabs.addTab("Jobs", new LazyTab(JobsPanel::new));
+        tabs.addTab("Applications", new LazyTab(ApplicationsPanel::new));
+        tabs.addTab("Interviews", new LazyTab(InterviewsPanel::new));
+        tabs.addTab("Skills & Training", new LazyTab(SkillsTrainingPanel::new));
+        tabs.addTab("Employment Status", new LazyTab(EmploymentStatusPanel::new));
+        tabs.addTab("Reports/Export", new LazyTab(ReportsPanel::new));
+        LazyTab.install(tabs);
 
         // Style tabs with enterprise colors
         for (int i = 0; i < tabs.getTabCount(); i++) {
@@ -1,34 +1,42 @@
 package com.woms.gui.applicant;
 
 // ApplicantGUI.java - GUI for applicants
+import com.woms.database.ApplicantSession;
 import com.woms.database.Database;
 import com.woms.gui.frames.JobApplicationForm;
 import com.woms.gui.frames.RoleSelectionFrame;
+import com.woms.gui.panels.DbTask;
 import java.awt.*;
-import java.sql.SQLException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
 
 public class ApplicantGUI extends JFrame {
+    private static final java.time.format.DateTimeFormatter SUBMISSION_DATE_FMT = java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy HH:mm");
+    private static final java.time.format.DateTimeFormatter HOUR_MINUTE_FMT = java.time.format.DateTimeFormatter.ofPattern("HH:mm");
+
     private String applicantUsername;
     private int applicantId;
     private JTabbedPane tabs;
     private JLabel dateTimeLabel;
     private Timer clockTimer;
     private GradientPanel backgroundPanel;
-
-    public ApplicantGUI(String username) {
+    private ApplicantJobsPanel jobsPanel;
+    private ApplicantRecommendedJobsPanel recommendedPanel;
+    private ApplicantApplicationsPanel applicationsPanel;
+    private ApplicantAttendancePanel attendancePanel;
+    private ApplicantTrainingPanel trainingPanel;
+    private ApplicantNeedsPanel needsPanel;
+
+    /** Opened after sign-in, which already looked up the applicant's user id off the EDT. */
+    public ApplicantGUI(String username, int applicantId) {
         this.applicantUsername = username;
-        try {
-            this.applicantId = Database.getApplicantUserId(username);
-        } catch (SQLException e) {
-            JOptionPane.showMessageDialog(this, "Error getting applicant ID: " + e.getMessage());
-            dispose();
-            return;
-        }
+        this.applicantId = applicantId;
+        // Fetch every tab's data in parallel while the window is being built
+        CompletableFuture<ApplicantSession> session = ApplicantSession.load(applicantId);
 
         setTitle("WOMS - Applicant Portal");
         setSize(1100, 750);
@@ -152,14 +160,36 @@ public class ApplicantGUI extends JFrame {
         UIManager.put("TabbedPane.background", new Color(250, 250, 250));  // Off-White #FAFAFA
         UIManager.put("TabbedPane.contentAreaColor", new Color(255, 255, 255));
         
-        tabs.addTab("Available Jobs", new ApplicantJobsPanel(applicantId));
-        tabs.addTab("Recommended Jobs", new ApplicantRecommendedJobsPanel(applicantId));
-        tabs.addTab("My Applications", new ApplicantApplicationsPanel(applicantId));
-        tabs.addTab("Attendance", new ApplicantAttendancePanel(applicantId));
-        tabs.addTab("Training Programs", new ApplicantTrainingPanel(applicantId));
-        tabs.addTab("Submit My Needs", new ApplicantNeedsPanel(applicantId));
+        jobsPanel = new ApplicantJobsPanel(applicantId);
+        recommendedPanel = new ApplicantRecommendedJobsPanel(applicantId);
+        applicationsPanel = new ApplicantApplicationsPanel(applicantId);
+        attendancePanel = new ApplicantAttendancePanel(applicantId);
+        trainingPanel = new ApplicantTrainingPanel(applicantId);
+        needsPanel = new ApplicantNeedsPanel(applicantId);
+        tabs.addTab("Available Jobs", jobsPanel);
+        tabs.addTab("Recommended Jobs", recommendedPanel);
+        tabs.addTab("My Applications", applicationsPanel);
+        tabs.addTab("Attendance", attendancePanel);
+        tabs.addTab("Training Programs", trainingPanel);
+        tabs.addTab("Submit My Needs", needsPanel);
         
         root.add(tabs, BorderLayout.CENTER);
+
+        // Clocking in waits until today's attendance is known
+        DbTask.await(tabs, session, this::showSession, ex -> JOptionPane.showMessageDialog(this, 
+                "Error loading your portal: " + ex.getMessage(),
+                "Error",
+                JOptionPane.ERROR_MESSAGE), attendancePanel.timeInBtn, attendancePanel.timeOutBtn);
+    }
+
+    // Fill every tab from the snapshot loaded at sign-in; Refresh buttons reload one tab on their own
+    private void showSession(ApplicantSession s) {
+        jobsPanel.showJobs(s.jobs);
+        recommendedPanel.showMatches(s.matches);
+        applicationsPanel.showApplications(s.applications);
+        attendancePanel.showAttendance(new AttendanceView(s.todayAttendance, s.attendance));
+        trainingPanel.showPrograms(s.trainingPrograms);
+        needsPanel.showNeeds(s.needs);
     }
 
     private void updateDateTime() {
@@ -290,20 +320,17 @@ public class ApplicantGUI extends JFrame {
                 
                 if (form.isSubmitted()) {
                     JobApplicationForm.ApplicationData data = form.getData();
-                    try {
-                        Database.createApplication(applicantId, data.jobId, data.firstName, data.middleName, 
-                                data.lastName, data.gender, data.age, data.address, data.experience);
+                    DbTask.run(this, () -> Database.createApplication(applicantId, data.jobId, data.firstName, data.middleName, 
+                            data.lastName, data.gender, data.age, data.address, data.experience), id -> {
                         JOptionPane.showMessageDialog(this, 
                             "Application submitted successfully!\n\nYou can check the status in 'My Applications' tab.",
                             "Success",
                             JOptionPane.INFORMATION_MESSAGE);
                         refresh();
-                    } catch (SQLException ex) {
-                        JOptionPane.showMessageDialog(this, 
+                    }, ex -> JOptionPane.showMessageDialog(this, 
                             "Error submitting application:\n" + ex.getMessage(),
                             "Error",
-                            JOptionPane.ERROR_MESSAGE);
-                    }
+                            JOptionPane.ERROR_MESSAGE), applyBtn);
                 }
             });
             btnPanel.add(applyBtn);
@@ -314,26 +341,23 @@ public class ApplicantGUI extends JFrame {
             btnPanel.add(refreshBtn);
             
             add(btnPanel, BorderLayout.SOUTH);
-
-            refresh();
         }
 
         private void refresh() {
-            try {
-                model.setRowCount(0);
-                List<Database.JobRecord> jobs = Database.getAllJobs();
-                for (Database.JobRecord j : jobs) {
-                    String desc = j.description != null ? j.description : "";
-                    String shortDesc = desc.length() > 60 ? 
-                        desc.substring(0, 60) + "..." : desc;
-                    model.addRow(new Object[]{j.id, j.title != null ? j.title : "N/A", shortDesc, 
-                        String.format("₱%,.2f", j.salary), "Available"});
-                }
-            } catch (SQLException ex) {
-                JOptionPane.showMessageDialog(this, 
+            DbTask.run(this, Database::getAllJobs, this::showJobs, ex -> JOptionPane.showMessageDialog(this, 
                     "Error loading jobs: " + ex.getMessage(),
                     "Error",
-                    JOptionPane.ERROR_MESSAGE);
+                    JOptionPane.ERROR_MESSAGE));
+        }
+
+        void showJobs(List<Database.JobRecord> jobs) {
+            model.setRowCount(0);
+            for (Database.JobRecord j : jobs) {
+                String desc = j.description != null ? j.description : "";
+                String shortDesc = desc.length() > 60 ? 
+                    desc.substring(0, 60) + "..." : desc;
+                model.addRow(new Object[]{j.id, j.title != null ? j.title : "N/A", shortDesc, 
+                    String.format("₱%,.2f", j.salary), "Available"});
             }
         }
 
@@ -478,40 +502,24 @@ public class ApplicantGUI extends JFrame {
             btnPanel.add(refreshBtn);
             
             add(btnPanel, BorderLayout.SOUTH);
-
-            refresh();
         }
 
         private void refresh() {
-            try {
-                model.setRowCount(0);
-                List<Database.ApplicationRecord> apps = Database.getAllApplications();
-                int count = 0;
-                for (Database.ApplicationRecord a : apps) {
-                    if (a.applicantId == applicantId) {
-                        // Format submission date
-                        String dateStr = "N/A";
-                        if (a.submissionDate != null && !a.submissionDate.isEmpty()) {
-                            try {
-                                java.time.LocalDateTime dateTime = java.time.LocalDateTime.parse(a.submissionDate);
-                                java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy HH:mm");
-                                dateStr = dateTime.format(formatter);
-                            } catch (Exception e) {
-                                dateStr = a.submissionDate; // Use raw string if parsing fails
-                            }
-                        }
-                        model.addRow(new Object[]{a.id, a.jobTitle, a.status, dateStr});
-                        count++;
-                    }
-                }
-                if (count == 0) {
-                    model.addRow(new Object[]{"-", "No applications yet", "-", "-"});
-                }
-            } catch (SQLException ex) {
-                JOptionPane.showMessageDialog(this, 
+            DbTask.run(this, () -> Database.getApplicationsByApplicant(applicantId), this::showApplications, ex -> JOptionPane.showMessageDialog(this, 
                     "Error loading applications: " + ex.getMessage(),
                     "Error",
-                    JOptionPane.ERROR_MESSAGE);
+                    JOptionPane.ERROR_MESSAGE));
+        }
+
+        void showApplications(List<Database.ApplicationRecord> apps) {
+            model.setRowCount(0);
+            for (Database.ApplicationRecord a : apps) {
+                // Format submission date
+                String dateStr = a.submissionDate != null ? a.submissionDate.format(SUBMISSION_DATE_FMT) : "N/A";
+                model.addRow(new Object[]{a.id, a.jobTitle, a.status, dateStr});
+            }
+            if (apps.isEmpty()) {
+                model.addRow(new Object[]{"-", "No applications yet", "-", "-"});
             }
         }
     }
@@ -625,8 +633,7 @@ public class ApplicantGUI extends JFrame {
                     needDescription.requestFocus();
                     return;
                 }
-                try {
-                    Database.createApplicantNeed(applicantId, desc, category);
+                DbTask.run(this, () -> Database.createApplicantNeed(applicantId, desc, category), id -> {
                     JOptionPane.showMessageDialog(this, 
                         "Your need has been submitted successfully!\n\nWe will review your request and get back to you soon.",
                         "Request Submitted",
@@ -634,12 +641,10 @@ public class ApplicantGUI extends JFrame {
                     needDescription.setText("");
                     categoryCombo.setSelectedIndex(0);
                     refresh();
-                } catch (SQLException ex) {
-                    JOptionPane.showMessageDialog(this, 
+                }, ex -> JOptionPane.showMessageDialog(this, 
                         "Error submitting request:\n" + ex.getMessage(),
                         "Error",
-                        JOptionPane.ERROR_MESSAGE);
-                }
+                        JOptionPane.ERROR_MESSAGE), submitBtn);
             });
             formPanel.add(submitBtn, gbc);
 
@@ -701,31 +706,27 @@ public class ApplicantGUI extends JFrame {
                 }
             });
             panel.add(new JScrollPane(table), BorderLayout.CENTER);
-
-            refresh();
             return panel;
         }
 
         private void refresh() {
-            try {
-                model.setRowCount(0);
-                List<Database.ApplicantNeedRecord> needs = Database.getApplicantNeeds(applicantId);
-                for (Database.ApplicantNeedRecord n : needs) {
-                    String desc = n.description != null ? n.description : "";
-                    String shortDesc = desc.length() > 60 ? 
-                        desc.substring(0, 60) + "..." : desc;
-                    String date = n.submittedDate != null && n.submittedDate.length() > 10 ? 
-                        n.submittedDate.substring(0, 10) : (n.submittedDate != null ? n.submittedDate : "N/A");
-                    model.addRow(new Object[]{n.id, n.category, shortDesc, n.status, date});
-                }
-                if (needs.isEmpty()) {
-                    model.addRow(new Object[]{"-", "No needs submitted yet", "-", "-", "-"});
-                }
-            } catch (SQLException ex) {
-                JOptionPane.showMessageDialog(this, 
+            DbTask.run(this, () -> Database.getApplicantNeeds(applicantId), this::showNeeds, ex -> JOptionPane.showMessageDialog(this, 
                     "Error loading needs: " + ex.getMessage(),
                     "Error",
-                    JOptionPane.ERROR_MESSAGE);
+                    JOptionPane.ERROR_MESSAGE));
+        }
+
+        void showNeeds(List<Database.ApplicantNeedRecord> needs) {
+            model.setRowCount(0);
+            for (Database.ApplicantNeedRecord n : needs) {
+                String desc = n.description != null ? n.description : "";
+                String shortDesc = desc.length() > 60 ? 
+                    desc.substring(0, 60) + "..." : desc;
+                String date = n.submittedDate != null ? n.submittedDate.toLocalDate().toString() : "N/A";
+                model.addRow(new Object[]{n.id, n.category, shortDesc, n.status, date});
+            }
+            if (needs.isEmpty()) {
+                model.addRow(new Object[]{"-", "No needs submitted yet", "-", "-", "-"});
             }
         }
     }
@@ -814,14 +815,11 @@ public class ApplicantGUI extends JFrame {
                 
                 if (form.isSubmitted()) {
                     JobApplicationForm.ApplicationData data = form.getData();
-                    try {
-                        Database.createApplication(applicantId, data.jobId, data.firstName, data.middleName, 
-                                data.lastName, data.gender, data.age, data.address, data.experience);
+                    DbTask.run(this, () -> Database.createApplication(applicantId, data.jobId, data.firstName, data.middleName, 
+                            data.lastName, data.gender, data.age, data.address, data.experience), id -> {
                         JOptionPane.showMessageDialog(this, "Application submitted successfully!");
                         refresh();
-                    } catch (SQLException ex) {
-                        JOptionPane.showMessageDialog(this, "Error: " + ex.getMessage());
-                    }
+                    }, applyBtn);
                 }
             });
 
@@ -833,31 +831,28 @@ public class ApplicantGUI extends JFrame {
             ));
             btnPanel.add(applyBtn);
             add(btnPanel, BorderLayout.SOUTH);
-
-            refresh();
         }
 
         private void refresh() {
-            try {
-                model.setRowCount(0);
-                List<Database.JobMatchRecord> matches = Database.getMatchingJobsForApplicant(applicantId);
-                for (Database.JobMatchRecord m : matches) {
-                    model.addRow(new Object[]{
-                        m.jobId,
-                        m.title,
-                        String.format("₱%,.2f", m.salary),
-                        m.matchPercentage + "%",
-                        "Apply"
-                    });
-                }
-                if (matches.isEmpty()) {
-                    model.addRow(new Object[]{"-", "No matching jobs found. Add skills to get recommendations!", "-", "-", "-"});
-                }
-            } catch (SQLException ex) {
-                JOptionPane.showMessageDialog(this, 
+            DbTask.run(this, () -> Database.getMatchingJobsForApplicant(applicantId), this::showMatches, ex -> JOptionPane.showMessageDialog(this, 
                     "Error loading recommended jobs: " + ex.getMessage(),
                     "Error",
-                    JOptionPane.ERROR_MESSAGE);
+                    JOptionPane.ERROR_MESSAGE));
+        }
+
+        void showMatches(List<Database.JobMatchRecord> matches) {
+            model.setRowCount(0);
+            for (Database.JobMatchRecord m : matches) {
+                model.addRow(new Object[]{
+                    m.jobId,
+                    m.title,
+                    String.format("₱%,.2f", m.salary),
+                    m.matchPercentage + "%",
+                    "Apply"
+                });
+            }
+            if (matches.isEmpty()) {
+                model.addRow(new Object[]{"-", "No matching jobs found. Add skills to get recommendations!", "-", "-", "-"});
             }
         }
     }
@@ -958,106 +953,143 @@ public class ApplicantGUI extends JFrame {
             tablePanel.add(new JScrollPane(table), BorderLayout.CENTER);
             
             add(tablePanel, BorderLayout.SOUTH);
-            
-            refresh();
         }
 
         private void doTimeIn() {
-            try {
+            DbTask.run(this, () -> {
                 Database.AttendanceRecord today = Database.getTodayAttendance(applicantId);
                 if (today != null && today.timeIn != null) {
+                    return ClockResult.unchanged(today);
+                }
+                Database.recordTimeIn(applicantId);
+                return ClockResult.recorded(null);
+            }, result -> {
+                if (!result.recorded) {
                     JOptionPane.showMessageDialog(this, 
-                        "You have already timed in today at " + today.timeIn.substring(0, 5),
+                        "You have already timed in today at " + result.today.timeIn.format(HOUR_MINUTE_FMT),
                         "Already Timed In",
                         JOptionPane.INFORMATION_MESSAGE);
                     return;
                 }
-                Database.recordTimeIn(applicantId);
                 JOptionPane.showMessageDialog(this, 
-                    "Time in recorded successfully!\nTime: " + java.time.LocalTime.now().toString().substring(0, 5),
+                    "Time in recorded successfully!\nTime: " + java.time.LocalTime.now().format(HOUR_MINUTE_FMT),
                     "Time In",
                     JOptionPane.INFORMATION_MESSAGE);
                 refresh();
-            } catch (SQLException ex) {
-                JOptionPane.showMessageDialog(this, 
+            }, ex -> JOptionPane.showMessageDialog(this, 
                     "Error recording time in: " + ex.getMessage(),
                     "Error",
-                    JOptionPane.ERROR_MESSAGE);
-            }
+                    JOptionPane.ERROR_MESSAGE), timeInBtn, timeOutBtn);
         }
 
         private void doTimeOut() {
-            try {
+            DbTask.run(this, () -> {
                 Database.AttendanceRecord today = Database.getTodayAttendance(applicantId);
-                if (today == null || today.timeIn == null) {
+                if (today == null || today.timeIn == null || today.timeOut != null) {
+                    return ClockResult.unchanged(today);
+                }
+                Database.recordTimeOut(applicantId);
+                return ClockResult.recorded(Database.getTodayAttendance(applicantId));
+            }, result -> {
+                Database.AttendanceRecord today = result.today;
+                if (!result.recorded && (today == null || today.timeIn == null)) {
                     JOptionPane.showMessageDialog(this, 
                         "Please time in first before timing out.",
                         "No Time In",
                         JOptionPane.WARNING_MESSAGE);
                     return;
                 }
-                if (today.timeOut != null) {
+                if (!result.recorded) {
                     JOptionPane.showMessageDialog(this, 
-                        "You have already timed out today at " + today.timeOut.substring(0, 5),
+                        "You have already timed out today at " + today.timeOut.format(HOUR_MINUTE_FMT),
                         "Already Timed Out",
                         JOptionPane.INFORMATION_MESSAGE);
                     return;
                 }
-                Database.recordTimeOut(applicantId);
-                today = Database.getTodayAttendance(applicantId);
                 String message = "Time out recorded successfully!\n";
                 if (today != null) {
-                    message += "Time: " + today.timeOut.substring(0, 5) + "\n";
+                    message += "Time: " + today.timeOut.format(HOUR_MINUTE_FMT) + "\n";
                     message += "Hours worked: " + String.format("%.2f", today.hoursWorked) + " hours";
                 }
                 JOptionPane.showMessageDialog(this, message, "Time Out", JOptionPane.INFORMATION_MESSAGE);
                 refresh();
-            } catch (SQLException ex) {
-                JOptionPane.showMessageDialog(this, 
+            }, ex -> JOptionPane.showMessageDialog(this, 
                     "Error recording time out: " + ex.getMessage(),
                     "Error",
-                    JOptionPane.ERROR_MESSAGE);
-            }
+                    JOptionPane.ERROR_MESSAGE), timeInBtn, timeOutBtn);
         }
 
         private void refresh() {
-            try {
-                todayAttendance = Database.getTodayAttendance(applicantId);
-                
-                // Update status label
-                if (todayAttendance == null || todayAttendance.timeIn == null) {
-                    statusLabel.setText("Status: Not checked in today");
-                    statusLabel.setForeground(new Color(100, 100, 100));
-                    timeInBtn.setEnabled(true);
-                    timeOutBtn.setEnabled(false);
-                } else if (todayAttendance.timeOut == null) {
-                    statusLabel.setText("Status: Checked in at " + todayAttendance.timeIn.substring(0, 5) + " - Still working");
-                    statusLabel.setForeground(new Color(60, 180, 80));
-                    timeInBtn.setEnabled(false);
-                    timeOutBtn.setEnabled(true);
-                } else {
-                    statusLabel.setText("Status: Completed - " + String.format("%.2f", todayAttendance.hoursWorked) + " hours worked today");
-                    statusLabel.setForeground(new Color(100, 100, 100));
-                    timeInBtn.setEnabled(false);
-                    timeOutBtn.setEnabled(false);
-                }
-                
-                // Refresh table
-                model.setRowCount(0);
-                List<Database.AttendanceRecord> attendance = Database.getApplicantAttendance(applicantId);
-                for (Database.AttendanceRecord att : attendance) {
-                    String timeIn = att.timeIn != null ? att.timeIn.substring(0, 5) : "-";
-                    String timeOut = att.timeOut != null ? att.timeOut.substring(0, 5) : "-";
-                    String hours = att.hoursWorked > 0 ? String.format("%.2f", att.hoursWorked) : "-";
-                    String status = att.status != null ? att.status : "-";
-                    model.addRow(new Object[]{att.date, timeIn, timeOut, hours, status});
-                }
-            } catch (SQLException ex) {
-                JOptionPane.showMessageDialog(this, 
+            // Today's record and the history come back together from one background call
+            DbTask.run(this, () -> {
+                Database.AttendanceRecord today = Database.getTodayAttendance(applicantId);
+                return new AttendanceView(today, Database.getApplicantAttendance(applicantId));
+            }, this::showAttendance, ex -> JOptionPane.showMessageDialog(this, 
                     "Error loading attendance: " + ex.getMessage(),
                     "Error",
-                    JOptionPane.ERROR_MESSAGE);
+                    JOptionPane.ERROR_MESSAGE));
+        }
+
+        void showAttendance(AttendanceView view) {
+            todayAttendance = view.today;
+            
+            // Update status label
+            if (todayAttendance == null || todayAttendance.timeIn == null) {
+                statusLabel.setText("Status: Not checked in today");
+                statusLabel.setForeground(new Color(100, 100, 100));
+                timeInBtn.setEnabled(true);
+                timeOutBtn.setEnabled(false);
+            } else if (todayAttendance.timeOut == null) {
+                statusLabel.setText("Status: Checked in at " + todayAttendance.timeIn.format(HOUR_MINUTE_FMT) + " - Still working");
+                statusLabel.setForeground(new Color(60, 180, 80));
+                timeInBtn.setEnabled(false);
+                timeOutBtn.setEnabled(true);
+            } else {
+                statusLabel.setText("Status: Completed - " + String.format("%.2f", todayAttendance.hoursWorked) + " hours worked today");
+                statusLabel.setForeground(new Color(100, 100, 100));
+                timeInBtn.setEnabled(false);
+                timeOutBtn.setEnabled(false);
             }
+            
+            // Refresh table
+            model.setRowCount(0);
+            for (Database.AttendanceRecord att : view.history) {
+                String timeIn = att.timeIn != null ? att.timeIn.format(HOUR_MINUTE_FMT) : "-";
+                String timeOut = att.timeOut != null ? att.timeOut.format(HOUR_MINUTE_FMT) : "-";
+                String hours = att.hoursWorked > 0 ? String.format("%.2f", att.hoursWorked) : "-";
+                String status = att.status != null ? att.status : "-";
+                model.addRow(new Object[]{att.date, timeIn, timeOut, hours, status});
+            }
+        }
+    }
+
+    // Today's attendance plus the history, loaded in one background call
+    private static class AttendanceView {
+        final Database.AttendanceRecord today;
+        final List<Database.AttendanceRecord> history;
+
+        AttendanceView(Database.AttendanceRecord today, List<Database.AttendanceRecord> history) {
+            this.today = today;
+            this.history = history;
+        }
+    }
+
+    // Outcome of a time in/out click: whether it was written, and today's record as the worker saw it
+    private static class ClockResult {
+        boolean recorded;
+        Database.AttendanceRecord today;
+
+        static ClockResult recorded(Database.AttendanceRecord today) {
+            ClockResult r = new ClockResult();
+            r.recorded = true;
+            r.today = today;
+            return r;
+        }
+
+        static ClockResult unchanged(Database.AttendanceRecord today) {
+            ClockResult r = new ClockResult();
+            r.today = today;
+            return r;
         }
     }
 
@@ -1113,13 +1145,10 @@ public class ApplicantGUI extends JFrame {
                     return;
                 }
                 int programId = (int) model.getValueAt(r, 0);
-                try {
-                    Database.enrollInTraining(applicantId, programId);
+                DbTask.run(this, () -> { Database.enrollInTraining(applicantId, programId); return null; }, v -> {
                     JOptionPane.showMessageDialog(this, "Successfully enrolled in training program!");
                     refresh();
-                } catch (SQLException ex) {
-                    JOptionPane.showMessageDialog(this, "Error: " + ex.getMessage());
-                }
+                }, enrollBtn);
             });
 
             JPanel btnPanel = new JPanel();
@@ -1130,26 +1159,21 @@ public class ApplicantGUI extends JFrame {
             ));
             btnPanel.add(enrollBtn);
             add(btnPanel, BorderLayout.SOUTH);
-
-            refresh();
         }
 
         private void refresh() {
-            try {
-                model.setRowCount(0);
-                List<Database.TrainingProgramRecord> programs = Database.getAllTrainingPrograms();
-                for (Database.TrainingProgramRecord p : programs) {
-                    if ("ACTIVE".equals(p.status)) {
-                        String skills = p.skillsTaught != null ? p.skillsTaught : "";
-                        String shortSkills = skills.length() > 40 ? skills.substring(0, 40) + "..." : skills;
-                        model.addRow(new Object[]{p.id, p.title != null ? p.title : "N/A", p.durationDays, shortSkills, "Enroll"});
-                    }
-                }
-            } catch (SQLException ex) {
-                JOptionPane.showMessageDialog(this, 
+            DbTask.run(this, () -> Database.getTrainingProgramsByStatus("ACTIVE"), this::showPrograms, ex -> JOptionPane.showMessageDialog(this, 
                     "Error loading training programs: " + ex.getMessage(),
                     "Error",
-                    JOptionPane.ERROR_MESSAGE);
+                    JOptionPane.ERROR_MESSAGE));
+        }
+
+        void showPrograms(List<Database.TrainingProgramRecord> programs) {
+            model.setRowCount(0);
+            for (Database.TrainingProgramRecord p : programs) {
+                String skills = p.skillsTaught != null ? p.skillsTaught : "";
+                String shortSkills = skills.length() > 40 ? skills.substring(0, 40) + "..." : skills;
+                model.addRow(new Object[]{p.id, p.title != null ? p.title : "N/A", p.durationDays, shortSkills, "Enroll"});
             }
         }
     }
@@ -1,8 +1,10 @@
 package com.woms.gui.frames;
 
 // ApplicantRegistrationFrame.java - Registration form for applicants
+import com.woms.database.ApplicantValidator;
 import com.woms.database.Database;
 import com.woms.gui.applicant.ApplicantGUI;
+import com.woms.gui.panels.DbTask;
 import java.awt.*;
 import java.sql.SQLException;
 import javax.swing.*;
@@ -221,7 +223,7 @@ public class ApplicantRegistrationFrame extends JFrame {
         root.add(card);
 
         // Button Action
-        registerBtn.addActionListener(e -> doRegister());
+        registerBtn.addActionListener(e -> doRegister(registerBtn));
         getRootPane().setDefaultButton(registerBtn);
     }
 
@@ -231,7 +233,7 @@ public class ApplicantRegistrationFrame extends JFrame {
         confirmPassField.setEchoChar(echo);
     }
 
-    private void doRegister() {
+    private void doRegister(JButton registerBtn) {
         String username = usernameField.getText().trim();
         String pass = new String(passField.getPassword());
         String confirmPass = new String(confirmPassField.getPassword());
@@ -250,73 +252,51 @@ public class ApplicantRegistrationFrame extends JFrame {
             return;
         }
 
-        // Username validation: 3–25 chars, no spaces
-        if (!username.matches("^[^\\s]{3,25}$")) {
-            statusLabel.setText("Username must be 3–25 characters with no spaces.");
+        // Username, password, age and phone rules (shared with the CSV importer)
+        String invalid = ApplicantValidator.validate(username, pass, name, ageStr, phone);
+        if (invalid != null) {
+            statusLabel.setText(invalid);
             return;
         }
+        int age = Integer.parseInt(ageStr);
 
-        // Password validation:
-        // - at least 8 characters
-        // - at least 1 uppercase, 1 lowercase, 1 digit, 1 special character
-        if (!pass.matches("^(?=.*[A-Z])(?=.*[a-z])(?=.*\\d)(?=.*[^A-Za-z0-9]).{8,}$")) {
-            statusLabel.setText("Password must be 8+ chars with uppercase, lowercase, number, and special character.");
-            return;
-        }
-
-        // Age validation: only 18–60 allowed
-        if (!ageStr.matches("^(1[89]|[2-5]\\d|60)$")) {
-            statusLabel.setText("Age must be between 18 and 60.");
-            return;
-        }
-        int age;
-        try {
-            age = Integer.parseInt(ageStr);
-        } catch (NumberFormatException e) {
-            statusLabel.setText("Age must be a valid number.");
-            return;
-        }
-
-        // Phone validation: 09 + 9 digits = exactly 11 digits, numbers only
-        if (!phone.matches("^09\\d{9}$")) {
-            statusLabel.setText("Phone number must be 11 digits and start with 09.");
-            return;
-        }
-
-        try {
+        // The username check and insert run off the EDT; null means the name was already taken
+        DbTask.run(getRootPane(), () -> {
             // Check if username already exists
             try (java.sql.Connection conn = Database.getConnection();
                  java.sql.PreparedStatement ps = conn.prepareStatement("SELECT user_id FROM users WHERE username = ?")) {
                 ps.setString(1, username);
                 java.sql.ResultSet rs = ps.executeQuery();
                 if (rs.next()) {
-                    statusLabel.setText("Username already taken. Please choose another.");
-                    return;
+                    return null;
                 }
             }
 
             // Create applicant account
-            Database.createApplicant(username, pass, name, age, phone);
+            return Database.createApplicant(username, pass, name, age, phone);
+        }, userId -> {
+            if (userId == null) {
+                statusLabel.setText("Username already taken. Please choose another.");
+                return;
+            }
             statusLabel.setText("Account created successfully! Redirecting...");
             statusLabel.setForeground(new Color(60, 180, 80));
             
-            // Auto-login and redirect to applicant portal
-            SwingUtilities.invokeLater(() -> {
-                try {
-                    Thread.sleep(1000);
-                    dispose();
-                    new ApplicantGUI(username).setVisible(true);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
+            // Auto-login and redirect to applicant portal after a short pause (a timer, so the EDT is not blocked)
+            Timer redirect = new Timer(1000, e -> {
+                dispose();
+                new ApplicantGUI(username, userId).setVisible(true);
             });
-        } catch (SQLException ex) {
-            statusLabel.setText("Database error: " + ex.getMessage());
-            statusLabel.setForeground(new Color(180, 30, 30));
-        } catch (Exception ex) {
-            statusLabel.setText("Error: " + ex.getMessage());
+            redirect.setRepeats(false);
+            redirect.start();
+        }, ex -> {
+            if (ex instanceof SQLException) {
+                statusLabel.setText("Database error: " + ex.getMessage());
+            } else {
+                statusLabel.setText("Error: " + ex.getMessage());
+            }
             statusLabel.setForeground(new Color(180, 30, 30));
-        }
+        }, registerBtn);
     }
 
     private void styleField(JTextComponent field) {
@@ -4,6 +4,7 @@ package com.woms.gui.frames;
 import com.woms.database.Database;
 import com.woms.gui.admin.MainGUI;
 import com.woms.gui.applicant.ApplicantGUI;
+import com.woms.gui.panels.DbTask;
 import java.awt.*;
 import java.sql.SQLException;
 import javax.swing.*;
@@ -213,7 +214,7 @@ public class LoginFrame extends JFrame {
         root.add(card);
 
         // Button Action
-        loginBtn.addActionListener(e -> doLogin());
+        loginBtn.addActionListener(e -> doLogin(loginBtn));
         getRootPane().setDefaultButton(loginBtn);
     }
     
@@ -237,7 +238,7 @@ public class LoginFrame extends JFrame {
         ));
     }
 
-    private void doLogin() {
+    private void doLogin(JButton loginBtn) {
         String username = usernameField.getText().trim();
         String pass = new String(passField.getPassword());
 
@@ -246,11 +247,18 @@ public class LoginFrame extends JFrame {
             return;
         }
 
-        try {
-            boolean ok = false;
-            if (loginRole.equals("ADMIN")) {
-                ok = Database.adminAuthenticate(username, pass);
-                if (ok) {
+        boolean admin = loginRole.equals("ADMIN");
+        statusLabel.setText("Checking credentials...");
+        // The lookup runs off the EDT so the window keeps painting; the button stays disabled until it answers.
+        // An applicant's user id is resolved in the same trip, null meaning the credentials were wrong.
+        DbTask.run(getRootPane(), () -> {
+            if (admin) {
+                return Database.adminAuthenticate(username, pass) ? 0 : null;
+            }
+            return Database.applicantAuthenticate(username, pass) ? Database.getApplicantUserId(username) : null;
+        }, userId -> {
+            if (admin) {
+                if (userId != null) {
                     statusLabel.setText("Signing in...");
                     SwingUtilities.invokeLater(() -> new MainGUI().setVisible(true));
                     dispose();
@@ -258,20 +266,21 @@ public class LoginFrame extends JFrame {
                     statusLabel.setText("Invalid admin credentials.");
                 }
             } else {
-                ok = Database.applicantAuthenticate(username, pass);
-                if (ok) {
+                if (userId != null) {
                     statusLabel.setText("Signing in...");
-                    SwingUtilities.invokeLater(() -> new ApplicantGUI(username).setVisible(true));
+                    SwingUtilities.invokeLater(() -> new ApplicantGUI(username, userId).setVisible(true));
                     dispose();
                 } else {
                     statusLabel.setText("Invalid applicant credentials.");
                 }
             }
-        } catch (SQLException ex) {
-            statusLabel.setText("Database error: " + ex.getMessage());
-        } catch (Exception ex) {
-            statusLabel.setText("Error: " + ex.getMessage());
-        }
+        }, ex -> {
+            if (ex instanceof SQLException) {
+                statusLabel.setText("Database error: " + ex.getMessage());
+            } else {
+                statusLabel.setText("Error: " + ex.getMessage());
+            }
+        }, loginBtn, usernameField, passField);
     }
 
     private static class GradientPanel extends JPanel {
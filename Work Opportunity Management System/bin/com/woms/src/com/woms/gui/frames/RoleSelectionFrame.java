@@ -2,10 +2,14 @@ package com.woms.gui.frames;
 
 // RoleSelectionFrame.java - Choose login type
 import java.awt.*;
+import java.util.concurrent.CompletableFuture;
 import javax.swing.*;
 
 public class RoleSelectionFrame extends JFrame {
     private GradientPanel backgroundPanel;
+    private JButton applicantBtn;
+    private JLabel adminLabel;
+    private JLabel startupLabel;
     
     public RoleSelectionFrame() {
         setTitle("WOMS - Select Login Type");
@@ -38,6 +42,14 @@ public class RoleSelectionFrame extends JFrame {
         title.setHorizontalAlignment(SwingConstants.CENTER);
         title.setBorder(BorderFactory.createEmptyBorder(0, 15, 8, 15));
         headerPanel.add(title, BorderLayout.CENTER);
+
+        // Shown only while start-up work is still running (see holdUntil)
+        startupLabel = new JLabel("Preparing the database...");
+        startupLabel.setFont(new Font("Segoe UI", Font.PLAIN, 13));
+        startupLabel.setForeground(new Color(120, 120, 120));
+        startupLabel.setHorizontalAlignment(SwingConstants.CENTER);
+        startupLabel.setVisible(false);
+        headerPanel.add(startupLabel, BorderLayout.SOUTH);
         
         card.add(headerPanel, BorderLayout.NORTH);
 
@@ -51,7 +63,7 @@ public class RoleSelectionFrame extends JFrame {
 
         // Applicant Button (Main - big button)
         gbc.gridy = 0;
-        JButton applicantBtn = createRoleButton("Apply / Applicant Portal", "", new Color(80, 180, 80));
+        applicantBtn = createRoleButton("Apply / Applicant Portal", "", new Color(80, 180, 80));
         applicantBtn.addActionListener(e -> {
             dispose();
             new ApplicantSelectionFrame().setVisible(true);
@@ -65,13 +77,14 @@ public class RoleSelectionFrame extends JFrame {
         adminPanel.setOpaque(false);
         adminPanel.setBorder(BorderFactory.createEmptyBorder(10, 0, 10, 0));
         
-        JLabel adminLabel = new JLabel("Admin Login");
+        adminLabel = new JLabel("Admin Login");
         adminLabel.setFont(new Font("Segoe UI", Font.PLAIN, 15));
         adminLabel.setForeground(new Color(60, 130, 255));
         adminLabel.setCursor(new Cursor(Cursor.HAND_CURSOR));
         adminLabel.addMouseListener(new java.awt.event.MouseAdapter() {
             @Override
             public void mouseClicked(java.awt.event.MouseEvent e) {
+                if (!adminLabel.isEnabled()) return;
                 dispose();
                 new LoginFrame("ADMIN").setVisible(true);
             }
@@ -93,6 +106,19 @@ public class RoleSelectionFrame extends JFrame {
         root.add(card);
     }
     
+    /** Keep sign-in disabled until the given start-up work is done; the window itself shows right away. */
+    public void holdUntil(CompletableFuture<?> ready) {
+        if (ready.isDone()) return;
+        applicantBtn.setEnabled(false);
+        adminLabel.setEnabled(false);
+        startupLabel.setVisible(true);
+        ready.whenComplete((v, e) -> SwingUtilities.invokeLater(() -> {
+            applicantBtn.setEnabled(true);
+            adminLabel.setEnabled(true);
+            startupLabel.setVisible(false);
+        }));
+    }
+
     @Override
     public void dispose() {
         // Stop background animation
@@ -1,8 +1,8 @@
 package com.woms.gui.panels;
 
+import com.woms.database.ChangeEvent;
 import com.woms.database.Database;
 import java.awt.*;
-import java.sql.SQLException;
 import java.util.List;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
@@ -12,6 +12,7 @@ public class ApplicantsPanel extends JPanel {
 
     private JTable table;
     private DefaultTableModel model;
+    private PageNavigator<Database.ApplicantRecord> pager;
 
     private JButton deleteBtn;
 
@@ -44,7 +45,15 @@ public class ApplicantsPanel extends JPanel {
             BorderFactory.createLineBorder(new Color(230, 230, 235), 1, true),
             BorderFactory.createEmptyBorder(10, 15, 10, 15)
         ));
-        add(sc, BorderLayout.CENTER);
+        pager = new PageNavigator<>(Database::getApplicantsPage, this::render);
+        pager.setErrorHandler(ex -> JOptionPane.showMessageDialog(this, 
+                "Error loading applicants: " + ex.getMessage(),
+                "Error",
+                JOptionPane.ERROR_MESSAGE));
+        JPanel tablePanel = new JPanel(new BorderLayout());
+        tablePanel.add(sc, BorderLayout.CENTER);
+        tablePanel.add(pager, BorderLayout.SOUTH);
+        add(tablePanel, BorderLayout.CENTER);
 
         // Delete Button Panel
         JPanel btnPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
@@ -61,25 +70,37 @@ public class ApplicantsPanel extends JPanel {
             int r = table.getSelectedRow();
             if (r==-1) { JOptionPane.showMessageDialog(this,"Select row"); return; }
             int uid = (int) model.getValueAt(r,0);
-            try { Database.deleteApplicant(uid); refresh(); JOptionPane.showMessageDialog(this,"Deleted."); }
-            catch (SQLException ex) { JOptionPane.showMessageDialog(this,"Error: "+ex.getMessage()); }
+            DbTask.run(this, () -> { Database.deleteApplicant(uid); return null; },
+                v -> JOptionPane.showMessageDialog(this,"Deleted."), deleteBtn);
         });
 
+        // Rows are patched from change events instead of reloading after every action
+        new ChangeCoalescer(this, this::applyChanges, ChangeEvent.Entity.APPLICANT);
         refresh();
     }
 
-    private void refresh() {
-        try {
-            model.setRowCount(0);
-            List<Database.ApplicantRecord> list = Database.getAllApplicants();
-            for (Database.ApplicantRecord a : list) {
-                model.addRow(new Object[]{a.userId,a.username,a.name,a.age,a.phone});
+    private void applyChanges(List<ChangeEvent> events) {
+        boolean reload = false;
+        for (ChangeEvent e : events) {
+            if (e.kind == ChangeEvent.Kind.DELETED) {
+                int row = ChangeCoalescer.findRow(model, 0, e.id);
+                if (row >= 0) model.removeRow(row);
+            } else if (e.kind != ChangeEvent.Kind.UPDATED) {
+                // New applicants land on the newest page; a bulk change replaces the lot
+                reload |= e.kind == ChangeEvent.Kind.BULK || pager.isOnFirstPage();
             }
-        } catch (SQLException ex) {
-            JOptionPane.showMessageDialog(this, 
-                "Error loading applicants: " + ex.getMessage(),
-                "Error",
-                JOptionPane.ERROR_MESSAGE);
+        }
+        if (reload || model.getRowCount() == 0) refresh();
+    }
+
+    private void refresh() {
+        pager.reload();
+    }
+
+    private void render(List<Database.ApplicantRecord> list) {
+        model.setRowCount(0);
+        for (Database.ApplicantRecord a : list) {
+            model.addRow(new Object[]{a.userId,a.username,a.name,a.age,a.phone});
         }
     }
 
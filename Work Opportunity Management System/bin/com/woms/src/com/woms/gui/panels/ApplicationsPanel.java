@@ -1,5 +1,6 @@
 package com.woms.gui.panels;
 
+import com.woms.database.ChangeEvent;
 import com.woms.database.Database;
 import java.awt.*;
 import java.sql.SQLException;
@@ -8,7 +9,10 @@ import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
 
 public class ApplicationsPanel extends JPanel {
+    private static final java.time.format.DateTimeFormatter SUBMISSION_DATE_FMT = java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy HH:mm");
+
     private DefaultTableModel model;
+    private PageNavigator<Database.ApplicationRecord> pager;
     private JTable table;
     private JTextField applicantF, jobF;
     private JButton submitBtn, approveBtn, rejectBtn;
@@ -108,7 +112,12 @@ public class ApplicationsPanel extends JPanel {
             BorderFactory.createLineBorder(new Color(230, 230, 235), 1, true),
             BorderFactory.createEmptyBorder(10, 15, 10, 15)
         ));
-        add(sc, BorderLayout.CENTER);
+        pager = new PageNavigator<>(Database::getApplicationsPage, this::render);
+        pager.setErrorHandler(this::showLoadError);
+        JPanel tablePanel = new JPanel(new BorderLayout());
+        tablePanel.add(sc, BorderLayout.CENTER);
+        tablePanel.add(pager, BorderLayout.SOUTH);
+        add(tablePanel, BorderLayout.CENTER);
 
         JPanel form = new JPanel(new GridBagLayout());
         form.setBackground(new Color(255, 255, 255));
@@ -143,15 +152,15 @@ public class ApplicationsPanel extends JPanel {
         add(form, BorderLayout.SOUTH);
 
         submitBtn.addActionListener(e -> {
+            int aid, jid;
             try {
-                int aid = Integer.parseInt(applicantF.getText().trim());
-                int jid = Integer.parseInt(jobF.getText().trim());
-                Database.createApplication(aid,jid);
-                refresh();
+                aid = Integer.parseInt(applicantF.getText().trim());
+                jid = Integer.parseInt(jobF.getText().trim());
+            } catch (NumberFormatException ex) { JOptionPane.showMessageDialog(this,"IDs must be numbers."); return; }
+            DbTask.run(this, () -> Database.createApplication(aid,jid), id -> {
                 JOptionPane.showMessageDialog(this,"Application submitted.");
                 applicantF.setText(""); jobF.setText("");
-            } catch (NumberFormatException ex) { JOptionPane.showMessageDialog(this,"IDs must be numbers."); }
-            catch (SQLException ex) { JOptionPane.showMessageDialog(this,"Error: "+ex.getMessage()); }
+            }, submitBtn);
         });
 
         approveBtn.addActionListener(e -> {
@@ -161,167 +170,195 @@ public class ApplicationsPanel extends JPanel {
                 return; 
             }
             int appId = (int) model.getValueAt(r,0);
-            try {
+            // Schedule interview - default to 3 days from now
+            java.time.LocalDate interviewDate = java.time.LocalDate.now().plusDays(3);
+            String interviewDateStr = interviewDate.toString();
+            String interviewTimeStr = "10:00"; // Default time
+            // Lookups and writes run off the EDT; the outcome is reported back as one of three results
+            DbTask.run(this, () -> {
                 // Get application details
-                List<Database.ApplicationRecord> apps = Database.getAllApplications();
-                Database.ApplicationRecord app = null;
-                for (Database.ApplicationRecord a : apps) {
-                    if (a.id == appId) {
-                        app = a;
-                        break;
-                    }
-                }
-                
+                Database.ApplicationRecord app = Database.getApplicationById(appId);
                 if (app == null) {
-                    JOptionPane.showMessageDialog(this, "Application not found.");
-                    return;
+                    return ApprovalResult.notFound();
                 }
                 
                 // Check if interview already exists
                 Database.InterviewRecord existingInterview = Database.getInterviewByApplicationId(appId);
                 if (existingInterview != null) {
-                    JOptionPane.showMessageDialog(this, 
-                        "Interview already scheduled for this application.\n" +
-                        "Interview ID: " + existingInterview.id + "\n" +
-                        "Status: " + existingInterview.status,
-                        "Interview Exists",
-                        JOptionPane.INFORMATION_MESSAGE);
-                    return;
+                    return ApprovalResult.existing(existingInterview);
                 }
                 
                 // Update application status
                 Database.updateApplicationStatus(appId, "APPROVED");
                 
-                // Schedule interview - default to 3 days from now
-                java.time.LocalDate interviewDate = java.time.LocalDate.now().plusDays(3);
-                String interviewDateStr = interviewDate.toString();
-                String interviewTimeStr = "10:00"; // Default time
-                
                 // Create interview
                 int interviewId = Database.createInterview(
                     appId, 
                     app.applicantId, 
                     app.jobId, 
-                    interviewDateStr, 
+                    interviewDate, 
                     interviewTimeStr, 
                     "Interview scheduled automatically upon application approval."
                 );
-                
-                refresh();
-                JOptionPane.showMessageDialog(this, 
-                    "Application approved successfully!\n\n" +
-                    "Interview automatically scheduled:\n" +
-                    "Interview ID: " + interviewId + "\n" +
-                    "Date: " + interviewDateStr + "\n" +
-                    "Time: " + interviewTimeStr + "\n\n" +
-                    "You can manage interviews in the Interviews section.",
-                    "Approved & Interview Scheduled",
-                    JOptionPane.INFORMATION_MESSAGE);
-            } catch (SQLException ex) { 
-                JOptionPane.showMessageDialog(this, "Error: " + ex.getMessage()); 
-            }
+                return ApprovalResult.scheduled(interviewId);
+            }, result -> {
+                if (result.existingInterview != null) {
+                    JOptionPane.showMessageDialog(this, 
+                        "Interview already scheduled for this application.\n" +
+                        "Interview ID: " + result.existingInterview.id + "\n" +
+                        "Status: " + result.existingInterview.status,
+                        "Interview Exists",
+                        JOptionPane.INFORMATION_MESSAGE);
+                } else if (result.interviewId == null) {
+                    JOptionPane.showMessageDialog(this, "Application not found.");
+                } else {
+                    JOptionPane.showMessageDialog(this, 
+                        "Application approved successfully!\n\n" +
+                        "Interview automatically scheduled:\n" +
+                        "Interview ID: " + result.interviewId + "\n" +
+                        "Date: " + interviewDateStr + "\n" +
+                        "Time: " + interviewTimeStr + "\n\n" +
+                        "You can manage interviews in the Interviews section.",
+                        "Approved & Interview Scheduled",
+                        JOptionPane.INFORMATION_MESSAGE);
+                }
+            }, approveBtn, rejectBtn);
         });
 
         rejectBtn.addActionListener(e -> {
             int r = table.getSelectedRow(); if (r==-1) { JOptionPane.showMessageDialog(this,"Select app"); return; }
             int appId = (int) model.getValueAt(r,0);
-            try { Database.updateApplicationStatus(appId,"REJECTED"); refresh(); JOptionPane.showMessageDialog(this,"Rejected."); }
-            catch (SQLException ex) { JOptionPane.showMessageDialog(this,"Error: "+ex.getMessage()); }
+            DbTask.run(this, () -> { Database.updateApplicationStatus(appId,"REJECTED"); return null; },
+                v -> JOptionPane.showMessageDialog(this,"Rejected."), approveBtn, rejectBtn);
         });
 
+        // Rows are patched from change events instead of reloading after every action
+        new ChangeCoalescer(this, this::applyChanges, ChangeEvent.Entity.APPLICATION);
         refresh();
     }
 
-    private void refresh() {
-        try {
-            model.setRowCount(0);
-            List<Database.ApplicationRecord> list = Database.getAllApplications();
-            
-            if (list == null || list.isEmpty()) {
-                model.addRow(new Object[]{"-", "No applications found", "-", "-", "-", "-", "-", "-", "-"});
-                return;
-            }
-            
-            for (Database.ApplicationRecord a : list) {
-                // Build full name from first, middle, last name
-                String fullName = (a.firstName != null ? a.firstName : "") + " " + 
-                                 (a.middleName != null && !a.middleName.isEmpty() ? a.middleName + " " : "") + 
-                                 (a.lastName != null ? a.lastName : "");
-                fullName = fullName.trim();
-                // Fallback to applicantName if full name is empty
-                if (fullName.isEmpty() && a.applicantName != null) {
-                    fullName = a.applicantName;
-                }
-                if (fullName.isEmpty()) {
-                    fullName = "N/A";
-                }
-                
-                // Get username
-                String username = a.applicantUsername != null ? a.applicantUsername : "N/A";
-                
-                // Get age
-                String ageStr = a.age > 0 ? String.valueOf(a.age) : "N/A";
-                
-                // Get gender
-                String gender = a.gender != null && !a.gender.isEmpty() ? a.gender : "N/A";
-                
-                // Get job title
-                String jobTitle = a.jobTitle != null ? a.jobTitle : "N/A";
-                
-                // Format submission date
-                String dateStr = "N/A";
-                if (a.submissionDate != null && !a.submissionDate.isEmpty()) {
-                    try {
-                        java.time.LocalDateTime dateTime = java.time.LocalDateTime.parse(a.submissionDate);
-                        java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy HH:mm");
-                        dateStr = dateTime.format(formatter);
-                    } catch (Exception e) {
-                        dateStr = a.submissionDate; // Use raw string if parsing fails
-                    }
-                }
-                
-                model.addRow(new Object[]{
-                    a.id, 
-                    username, 
-                    fullName, 
-                    jobTitle, 
-                    ageStr, 
-                    gender, 
-                    a.status != null ? a.status : "PENDING",
-                    dateStr,
-                    "View"
-                });
+    private void applyChanges(List<ChangeEvent> events) {
+        boolean reload = false;
+        for (ChangeEvent e : events) {
+            int row = ChangeCoalescer.findRow(model, 0, e.id);
+            if (e.kind == ChangeEvent.Kind.UPDATED) {
+                if (row >= 0) model.setValueAt(e.newStatus != null ? e.newStatus : "PENDING", row, 6);
+            } else if (e.kind == ChangeEvent.Kind.DELETED) {
+                if (row >= 0) model.removeRow(row);
+            } else {
+                // New rows land on the newest page; a bulk change replaces the lot
+                reload |= e.kind == ChangeEvent.Kind.BULK || pager.isOnFirstPage();
             }
-        } catch (SQLException ex) {
-            ex.printStackTrace(); // Debug
+        }
+        if (reload || model.getRowCount() == 0) refresh();
+    }
+
+    private void refresh() {
+        pager.reload();
+    }
+
+    private void showLoadError(Exception ex) {
+        ex.printStackTrace(); // Debug
+        if (ex instanceof SQLException) {
             JOptionPane.showMessageDialog(this, 
                 "Error loading applications: " + ex.getMessage() + "\n\nPlease check database connection.", 
                 "Error", 
                 JOptionPane.ERROR_MESSAGE);
             model.setRowCount(0);
             model.addRow(new Object[]{"-", "Error loading applications", "-", "-", "-", "-", "-", "-", "-"});
-        } catch (Exception ex) {
-            ex.printStackTrace(); // Debug
+        } else {
             JOptionPane.showMessageDialog(this, 
                 "Unexpected error: " + ex.getMessage(), 
                 "Error", 
                 JOptionPane.ERROR_MESSAGE);
         }
     }
+
+    /** What the approve action found or did, handed from the worker thread to the EDT. */
+    private static class ApprovalResult {
+        Integer interviewId;
+        Database.InterviewRecord existingInterview;
+
+        static ApprovalResult notFound() {
+            return new ApprovalResult();
+        }
+
+        static ApprovalResult existing(Database.InterviewRecord interview) {
+            ApprovalResult r = new ApprovalResult();
+            r.existingInterview = interview;
+            return r;
+        }
+
+        static ApprovalResult scheduled(int interviewId) {
+            ApprovalResult r = new ApprovalResult();
+            r.interviewId = interviewId;
+            return r;
+        }
+    }
+
+    private void render(List<Database.ApplicationRecord> list) {
+        model.setRowCount(0);
+        
+        if (list.isEmpty()) {
+            model.addRow(new Object[]{"-", "No applications found", "-", "-", "-", "-", "-", "-", "-"});
+            return;
+        }
+        
+        for (Database.ApplicationRecord a : list) {
+            // Build full name from first, middle, last name
+            String fullName = (a.firstName != null ? a.firstName : "") + " " + 
+                             (a.middleName != null && !a.middleName.isEmpty() ? a.middleName + " " : "") + 
+                             (a.lastName != null ? a.lastName : "");
+            fullName = fullName.trim();
+            // Fallback to applicantName if full name is empty
+            if (fullName.isEmpty() && a.applicantName != null) {
+                fullName = a.applicantName;
+            }
+            if (fullName.isEmpty()) {
+                fullName = "N/A";
+            }
+            
+            // Get username
+            String username = a.applicantUsername != null ? a.applicantUsername : "N/A";
+            
+            // Get age
+            String ageStr = a.age > 0 ? String.valueOf(a.age) : "N/A";
+            
+            // Get gender
+            String gender = a.gender != null && !a.gender.isEmpty() ? a.gender : "N/A";
+            
+            // Get job title
+            String jobTitle = a.jobTitle != null ? a.jobTitle : "N/A";
+            
+            // Format submission date
+            String dateStr = a.submissionDate != null ? a.submissionDate.format(SUBMISSION_DATE_FMT) : "N/A";
+            
+            model.addRow(new Object[]{
+                a.id, 
+                username, 
+                fullName, 
+                jobTitle, 
+                ageStr, 
+                gender, 
+                a.status != null ? a.status : "PENDING",
+                dateStr,
+                "View"
+            });
+        }
+    }
     
     private void viewApplicationDetails(int row) {
+        Object id = model.getValueAt(row, 0);
+        if (!(id instanceof Integer)) return; // placeholder row
+        int appId = (Integer) id;
+        DbTask.run(this, () -> Database.getApplicationDetail(appId), this::showApplicationDetails,
+            ex -> DbTask.showError(this, "Error loading details: ", ex));
+    }
+
+    private void showApplicationDetails(Database.ApplicationDetailRecord detail) {
         try {
-            int appId = (int) model.getValueAt(row, 0);
-            List<Database.ApplicationRecord> list = Database.getAllApplications();
-            Database.ApplicationRecord app = null;
-            for (Database.ApplicationRecord a : list) {
-                if (a.id == appId) {
-                    app = a;
-                    break;
-                }
-            }
-            
-            if (app != null) {
+            if (detail != null) {
+                Database.ApplicationRecord app = detail.application;
                 StringBuilder details = new StringBuilder();
                 details.append("═══════════════════════════════════════\n");
                 details.append("   JOB APPLICATION DETAILS\n");
@@ -348,6 +385,15 @@ public class ApplicationsPanel extends JPanel {
                 details.append("─────────────────────────────\n");
                 details.append(app.experience != null && !app.experience.isEmpty() ? app.experience : "No experience provided");
                 
+                if (detail.interview != null) {
+                    details.append("\n\nINTERVIEW:\n");
+                    details.append("─────────────────────────────\n");
+                    details.append("Interview ID: ").append(detail.interview.id).append("\n");
+                    details.append("Date: ").append(detail.interview.interviewDate != null ? detail.interview.interviewDate.toString() : "N/A").append("\n");
+                    details.append("Time: ").append(detail.interview.interviewTime != null ? detail.interview.interviewTime : "N/A").append("\n");
+                    details.append("Status: ").append(detail.interview.status != null ? detail.interview.status : "SCHEDULED");
+                }
+                
                 JTextArea textArea = new JTextArea(details.toString());
                 textArea.setFont(new Font("Courier New", Font.PLAIN, 12));
                 textArea.setEditable(false);
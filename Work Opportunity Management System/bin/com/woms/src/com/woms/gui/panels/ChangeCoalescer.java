@@ -0,0 +1,134 @@
+package com.woms.gui.panels;
+
+import com.woms.database.ChangeEvent;
+import com.woms.database.ChangeEventBus;
+import java.awt.event.HierarchyEvent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+
+/**
+ * Feeds a panel the Database change events it cares about, on the EDT and in batches.
+ *
+ * Events arriving within FLUSH_DELAY_MS are merged per row (two status changes become one,
+ * a create followed by a delete cancels out, a BULK event swallows everything else for its
+ * entity) and handed over as one list, so a burst of writes costs one table update.
+ * The subscription lasts while the owning panel is displayable, so panels of a closed
+ * window stop listening. While the panel sits in a window but off screen (a background tab),
+ * events are held and merged instead of applied, and handed over when it is shown again, so a
+ * hidden tab never reloads; if too many rows pile up they collapse into one BULK per entity.
+ */
+public class ChangeCoalescer implements ChangeEventBus.Listener {
+
+    private static final int FLUSH_DELAY_MS = 50;
+    // Held rows beyond which a hidden panel just reloads once when shown
+    private static final int MAX_HELD = 500;
+
+    public interface Handler {
+        void apply(List<ChangeEvent> events);
+    }
+
+    private final JComponent owner;
+    private final Set<ChangeEvent.Entity> entities;
+    private final Handler handler;
+    private final Map<String, ChangeEvent> pending = new LinkedHashMap<>();
+    private final Timer timer;
+
+    public ChangeCoalescer(JComponent owner, Handler handler, ChangeEvent.Entity... entities) {
+        this.owner = owner;
+        this.entities = EnumSet.copyOf(Arrays.asList(entities));
+        this.handler = handler;
+        this.timer = new Timer(FLUSH_DELAY_MS, e -> flush());
+        timer.setRepeats(false);
+        ChangeEventBus.subscribe(this);
+        owner.addHierarchyListener(e -> {
+            if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0 && owner.isShowing()) {
+                // Back on screen: apply whatever was held meanwhile
+                if (hasPending()) timer.restart();
+            }
+            if ((e.getChangeFlags() & HierarchyEvent.DISPLAYABILITY_CHANGED) == 0) return;
+            if (owner.isDisplayable()) {
+                ChangeEventBus.subscribe(this);
+            } else {
+                ChangeEventBus.unsubscribe(this);
+            }
+        });
+    }
+
+    @Override
+    public void onChange(ChangeEvent event) {
+        if (!entities.contains(event.entity)) return;
+        synchronized (pending) {
+            merge(event);
+        }
+        // Timer.start is safe off the EDT; the flush itself runs on the EDT
+        if (!timer.isRunning()) timer.start();
+    }
+
+    private void merge(ChangeEvent e) {
+        String bulkKey = e.entity + "/*";
+        if (pending.containsKey(bulkKey)) return;
+        if (e.kind == ChangeEvent.Kind.BULK) {
+            pending.keySet().removeIf(k -> k.startsWith(e.entity + "/"));
+            pending.put(bulkKey, e);
+            return;
+        }
+        String key = e.entity + "/" + e.id;
+        ChangeEvent prev = pending.get(key);
+        if (prev == null) {
+            pending.put(key, e);
+        } else if (prev.kind == ChangeEvent.Kind.CREATED && e.kind == ChangeEvent.Kind.DELETED) {
+            pending.remove(key);
+        } else if (prev.kind == ChangeEvent.Kind.CREATED && e.kind == ChangeEvent.Kind.UPDATED) {
+            pending.put(key, ChangeEvent.created(e.entity, e.id, e.newStatus, prev.record));
+        } else if (prev.kind == ChangeEvent.Kind.UPDATED && e.kind == ChangeEvent.Kind.UPDATED) {
+            pending.put(key, ChangeEvent.updated(e.entity, e.id, prev.oldStatus, e.newStatus));
+        } else {
+            pending.put(key, e);
+        }
+        if (pending.size() > MAX_HELD) {
+            Set<ChangeEvent.Entity> held = EnumSet.noneOf(ChangeEvent.Entity.class);
+            for (ChangeEvent p : pending.values()) held.add(p.entity);
+            pending.clear();
+            for (ChangeEvent.Entity entity : held) pending.put(entity + "/*", ChangeEvent.bulk(entity));
+        }
+    }
+
+    private boolean hasPending() {
+        synchronized (pending) {
+            return !pending.isEmpty();
+        }
+    }
+
+    // Hold events only for a panel that is in a window but not on screen; one not yet placed
+    // in a window (still being built) gets them straight away
+    private boolean isOffScreen() {
+        return owner.isDisplayable() && !owner.isShowing();
+    }
+
+    private void flush() {
+        if (isOffScreen()) return;
+        List<ChangeEvent> batch;
+        synchronized (pending) {
+            if (pending.isEmpty()) return;
+            batch = new ArrayList<>(pending.values());
+            pending.clear();
+        }
+        handler.apply(batch);
+    }
+
+    /** Row index of the record whose id is in idColumn, or -1 when it is not on screen. */
+    public static int findRow(DefaultTableModel model, int idColumn, int id) {
+        for (int r = 0; r < model.getRowCount(); r++) {
+            if (Objects.equals(model.getValueAt(r, idColumn), id)) return r;
+        }
+        return -1;
+    }
+}
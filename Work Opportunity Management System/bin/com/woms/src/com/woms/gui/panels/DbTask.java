@@ -0,0 +1,87 @@
+package com.woms.gui.panels;
+
+import com.woms.database.AsyncDatabase;
+import java.awt.Component;
+import java.awt.Cursor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import javax.swing.*;
+
+/**
+ * Runs a Database call through {@link AsyncDatabase} on behalf of a screen and shows it as busy
+ * meanwhile: wait cursor on the owner and the given buttons disabled, so a click cannot be
+ * queued twice. The result or the error is handed back on the EDT, where the callbacks may
+ * touch Swing freely. Call from the EDT.
+ */
+public final class DbTask {
+
+    private static final String BUSY_COUNT = "woms.dbTask.busy";
+
+    public interface Success<T> {
+        void accept(T value);
+    }
+
+    public interface Failure {
+        void accept(Exception error);
+    }
+
+    private DbTask() {
+    }
+
+    /** Run call; failures are shown to the user as "Error: message". */
+    public static <T> CompletableFuture<T> run(Component owner, AsyncDatabase.Call<T> call, Success<T> onSuccess,
+                                               Component... disable) {
+        return run(owner, call, onSuccess, error -> showError(owner, "Error: ", error), disable);
+    }
+
+    public static <T> CompletableFuture<T> run(Component owner, AsyncDatabase.Call<T> call, Success<T> onSuccess,
+                                               Failure onFailure, Component... disable) {
+        return await(owner, AsyncDatabase.supply(call), onSuccess, onFailure, disable);
+    }
+
+    /** Like run, for a future that is already under way (e.g. ApplicantSession.load started early). */
+    public static <T> CompletableFuture<T> await(Component owner, CompletableFuture<T> future, Success<T> onSuccess,
+                                                 Failure onFailure, Component... disable) {
+        boolean[] wasEnabled = new boolean[disable.length];
+        for (int i = 0; i < disable.length; i++) {
+            wasEnabled[i] = disable[i].isEnabled();
+            disable[i].setEnabled(false);
+        }
+        setBusy(owner, true);
+        future.whenComplete((value, error) -> SwingUtilities.invokeLater(() -> {
+            setBusy(owner, false);
+            for (int i = 0; i < disable.length; i++) {
+                disable[i].setEnabled(wasEnabled[i]);
+            }
+            if (error == null) {
+                onSuccess.accept(value);
+            } else {
+                onFailure.accept(unwrap(error));
+            }
+        }));
+        return future;
+    }
+
+    /** Message dialog for a failed call, e.g. showError(this, "Error loading jobs: ", ex). */
+    public static void showError(Component owner, String prefix, Exception error) {
+        JOptionPane.showMessageDialog(owner, prefix + error.getMessage());
+    }
+
+    private static Exception unwrap(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof Exception ? (Exception) cause : new RuntimeException(cause);
+    }
+
+    // Overlapping tasks on one owner share the wait cursor; the last one to finish clears it
+    private static void setBusy(Component owner, boolean busy) {
+        if (!(owner instanceof JComponent)) {
+            if (owner != null) owner.setCursor(Cursor.getPredefinedCursor(busy ? Cursor.WAIT_CURSOR : Cursor.DEFAULT_CURSOR));
+            return;
+        }
+        JComponent c = (JComponent) owner;
+        Object current = c.getClientProperty(BUSY_COUNT);
+        int count = (current instanceof Integer ? (Integer) current : 0) + (busy ? 1 : -1);
+        c.putClientProperty(BUSY_COUNT, Math.max(0, count));
+        c.setCursor(count > 0 ? Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR) : null);
+    }
+}
@@ -1,18 +1,20 @@
 package com.woms.gui.panels;
 
+import com.woms.database.ChangeEvent;
 import com.woms.database.Database;
 import java.awt.*;
-import java.sql.SQLException;
 import java.util.List;
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
 
 public class EmploymentStatusPanel extends JPanel {
     private DefaultTableModel model;
+    private PageNavigator<Database.EmploymentStatusRecord> pager;
     private JTable table;
     private JTextField applicantIdF, jobIdF, incomeF;
     private JButton addBtn, updateBtn;
     private JComboBox<String> statusCombo;
+    private JPanel statsPanel;
 
     public EmploymentStatusPanel() {
         setLayout(new BorderLayout());
@@ -25,7 +27,7 @@ public class EmploymentStatusPanel extends JPanel {
         add(title, BorderLayout.NORTH);
 
         // Statistics Panel
-        JPanel statsPanel = createStatsPanel();
+        statsPanel = createStatsPanel();
         add(statsPanel, BorderLayout.NORTH);
 
         // Table
@@ -61,7 +63,16 @@ public class EmploymentStatusPanel extends JPanel {
                 return c;
             }
         });
-        add(new JScrollPane(table), BorderLayout.CENTER);
+        JScrollPane sc = new JScrollPane(table);
+        pager = new PageNavigator<>(Database::getEmploymentStatusPage, this::render);
+        pager.setErrorHandler(ex -> JOptionPane.showMessageDialog(this, 
+                "Error loading employment status: " + ex.getMessage(),
+                "Error",
+                JOptionPane.ERROR_MESSAGE));
+        JPanel tablePanel = new JPanel(new BorderLayout());
+        tablePanel.add(sc, BorderLayout.CENTER);
+        tablePanel.add(pager, BorderLayout.SOUTH);
+        add(tablePanel, BorderLayout.CENTER);
 
         // Form
         JPanel form = new JPanel(new GridBagLayout());
@@ -123,46 +134,80 @@ public class EmploymentStatusPanel extends JPanel {
         add(form, BorderLayout.SOUTH);
 
         addBtn.addActionListener(e -> {
+            int applicantId, jobId;
+            double income;
             try {
-                int applicantId = Integer.parseInt(applicantIdF.getText().trim());
-                int jobId = Integer.parseInt(jobIdF.getText().trim());
-                double income = Double.parseDouble(incomeF.getText().trim());
-                Database.createEmploymentStatus(applicantId, jobId, income);
-                refresh();
-                JOptionPane.showMessageDialog(this, "Employment record added!");
-                clearForm();
+                applicantId = Integer.parseInt(applicantIdF.getText().trim());
+                jobId = Integer.parseInt(jobIdF.getText().trim());
+                income = Double.parseDouble(incomeF.getText().trim());
             } catch (NumberFormatException ex) {
                 JOptionPane.showMessageDialog(this, "Please enter valid numbers");
-            } catch (SQLException ex) {
-                JOptionPane.showMessageDialog(this, "Error: " + ex.getMessage());
+                return;
             }
+            DbTask.run(this, () -> { Database.createEmploymentStatus(applicantId, jobId, income); return null; }, v -> {
+                JOptionPane.showMessageDialog(this, "Employment record added!");
+                clearForm();
+            }, addBtn);
         });
 
+        // Rows are patched from change events instead of reloading after every action
+        new ChangeCoalescer(this, this::applyChanges, ChangeEvent.Entity.EMPLOYMENT);
         refresh();
     }
 
+    private void applyChanges(List<ChangeEvent> events) {
+        boolean reload = false;
+        for (ChangeEvent e : events) {
+            int row = ChangeCoalescer.findRow(model, 0, e.id);
+            if (e.kind == ChangeEvent.Kind.UPDATED) {
+                if (row >= 0) model.setValueAt(e.newStatus, row, 5);
+            } else if (e.kind == ChangeEvent.Kind.DELETED) {
+                if (row >= 0) model.removeRow(row);
+            } else {
+                // New records land on the newest page; a bulk change replaces the lot
+                reload |= e.kind == ChangeEvent.Kind.BULK || pager.isOnFirstPage();
+            }
+        }
+        if (reload) refresh();
+        // Income and headcount cards follow every employment change
+        loadStats();
+    }
+
     private JPanel createStatsPanel() {
         JPanel panel = new JPanel(new GridLayout(1, 4, 10, 0));
         panel.setBackground(new Color(255, 255, 255));
         panel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
 
-        try {
-            List<Database.EmploymentStatusRecord> all = Database.getAllEmploymentStatus();
-            long employed = all.stream().filter(e -> "EMPLOYED".equals(e.status)).count();
-            double totalIncome = all.stream().filter(e -> "EMPLOYED".equals(e.status)).mapToDouble(e -> e.monthlyIncome).sum();
-            double avgIncome = employed > 0 ? totalIncome / employed : 0;
-
-            panel.add(createStatCard("Total Employed", String.valueOf(employed), new Color(60, 180, 80)));
-            panel.add(createStatCard("Total Monthly Income", String.format("₱%,.2f", totalIncome), new Color(60, 130, 255)));
-            panel.add(createStatCard("Average Income", String.format("₱%,.2f", avgIncome), new Color(255, 165, 0)));
-            panel.add(createStatCard("Total Records", String.valueOf(all.size()), new Color(150, 150, 150)));
-        } catch (SQLException ex) {
-            panel.add(createStatCard("Error", "Loading...", new Color(220, 60, 60)));
-        }
+        // Cards show placeholders until the metrics query comes back
+        fillStats(panel, null);
+        loadStats(panel);
 
         return panel;
     }
 
+    private void loadStats() {
+        loadStats(statsPanel);
+    }
+
+    private void loadStats(JPanel panel) {
+        DbTask.run(panel, Database::getDashboardMetrics, m -> fillStats(panel, m), ex -> {
+            panel.removeAll();
+            panel.add(createStatCard("Error", "Loading...", new Color(220, 60, 60)));
+            panel.revalidate();
+            panel.repaint();
+        });
+    }
+
+    private void fillStats(JPanel panel, Database.DashboardMetrics m) {
+        panel.removeAll();
+        panel.add(createStatCard("Total Employed", m == null ? "..." : String.valueOf(m.employed), new Color(60, 180, 80)));
+        panel.add(createStatCard("Total Monthly Income", m == null ? "..." : String.format("₱%,.2f", m.totalMonthlyIncome), new Color(60, 130, 255)));
+        panel.add(createStatCard("Average Income", m == null ? "..." : String.format("₱%,.2f", m.averageIncome()), new Color(255, 165, 0)));
+        panel.add(createStatCard("Total Records", m == null ? "..." : String.valueOf(m.employmentRecords), new Color(150, 150, 150)));
+        panel.revalidate();
+        panel.repaint();
+    }
+
     private JPanel createStatCard(String label, String value, Color color) {
         JPanel card = new JPanel(new BorderLayout());
         card.setBackground(color);
@@ -185,25 +230,21 @@ public class EmploymentStatusPanel extends JPanel {
     }
 
     private void refresh() {
-        try {
-            model.setRowCount(0);
-            List<Database.EmploymentStatusRecord> list = Database.getAllEmploymentStatus();
-            for (Database.EmploymentStatusRecord e : list) {
-                String date = e.startDate != null && e.startDate.length() > 10 ? e.startDate.substring(0, 10) : (e.startDate != null ? e.startDate : "N/A");
-                model.addRow(new Object[]{
-                    e.id,
-                    e.applicantName != null ? e.applicantName : "N/A",
-                    e.jobTitle != null ? e.jobTitle : "N/A",
-                    date,
-                    String.format("₱%,.2f", e.monthlyIncome),
-                    e.status
-                });
-            }
-        } catch (SQLException ex) {
-            JOptionPane.showMessageDialog(this, 
-                "Error loading employment status: " + ex.getMessage(),
-                "Error",
-                JOptionPane.ERROR_MESSAGE);
+        pager.reload();
+    }
+
+    private void render(List<Database.EmploymentStatusRecord> list) {
+        model.setRowCount(0);
+        for (Database.EmploymentStatusRecord e : list) {
+            String date = e.startDate != null ? e.startDate.toLocalDate().toString() : "N/A";
+            model.addRow(new Object[]{
+                e.id,
+                e.applicantName != null ? e.applicantName : "N/A",
+                e.jobTitle != null ? e.jobTitle : "N/A",
+                date,
+                String.format("₱%,.2f", e.monthlyIncome),
+                e.status
+            });
         }
     }
 
@@ -1,14 +1,15 @@
 package com.woms.gui.panels;
 
+import com.woms.database.ChangeEvent;
 import com.woms.database.Database;
 import java.awt.*;
-import java.sql.SQLException;
 import java.util.List;
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
 
 public class InterviewsPanel extends JPanel {
     private DefaultTableModel model;
+    private PageNavigator<Database.InterviewRecord> pager;
     private JTable table;
     private JTextField dateF, timeF, notesF;
     private JButton scheduleBtn, updateStatusBtn;
@@ -82,7 +83,15 @@ public class InterviewsPanel extends JPanel {
             BorderFactory.createLineBorder(new Color(230, 230, 235), 1, true),
             BorderFactory.createEmptyBorder(10, 15, 10, 15)
         ));
-        add(sc, BorderLayout.CENTER);
+        pager = new PageNavigator<>(Database::getInterviewsPage, this::render);
+        pager.setErrorHandler(ex -> JOptionPane.showMessageDialog(this, 
+                "Error loading interviews: " + ex.getMessage(), 
+                "Error", 
+                JOptionPane.ERROR_MESSAGE));
+        JPanel tablePanel = new JPanel(new BorderLayout());
+        tablePanel.add(sc, BorderLayout.CENTER);
+        tablePanel.add(pager, BorderLayout.SOUTH);
+        add(tablePanel, BorderLayout.CENTER);
 
         JPanel form = new JPanel(new GridBagLayout());
         form.setBackground(new Color(255, 255, 255));
@@ -140,56 +149,65 @@ public class InterviewsPanel extends JPanel {
                 options,
                 options[0]);
             if (newStatus != null) {
-                try {
-                    Database.updateInterviewStatus(interviewId, newStatus);
-                    refresh();
-                    JOptionPane.showMessageDialog(this, "Interview status updated to: " + newStatus);
-                } catch (SQLException ex) {
-                    JOptionPane.showMessageDialog(this, "Error: " + ex.getMessage());
-                }
+                DbTask.run(this, () -> { Database.updateInterviewStatus(interviewId, newStatus); return null; },
+                    v -> JOptionPane.showMessageDialog(this, "Interview status updated to: " + newStatus), updateStatusBtn);
             }
         });
 
         refreshBtn.addActionListener(e -> refresh());
 
+        // Rows are patched from change events instead of reloading after every action
+        new ChangeCoalescer(this, this::applyChanges, ChangeEvent.Entity.INTERVIEW);
         refresh();
     }
 
-    private void refresh() {
-        try {
-            model.setRowCount(0);
-            List<Database.InterviewRecord> list = Database.getAllInterviews();
-            
-            if (list == null || list.isEmpty()) {
-                model.addRow(new Object[]{"-", "No interviews scheduled", "-", "-", "-", "-", "-"});
-                return;
+    private void applyChanges(List<ChangeEvent> events) {
+        boolean reload = false;
+        for (ChangeEvent e : events) {
+            int row = ChangeCoalescer.findRow(model, 0, e.id);
+            if (e.kind == ChangeEvent.Kind.UPDATED) {
+                if (row >= 0) model.setValueAt(e.newStatus != null ? e.newStatus : "SCHEDULED", row, 5);
+            } else if (e.kind == ChangeEvent.Kind.DELETED) {
+                if (row >= 0) model.removeRow(row);
+            } else {
+                // New interviews land on the newest page; a bulk change replaces the lot
+                reload |= e.kind == ChangeEvent.Kind.BULK || pager.isOnFirstPage();
             }
+        }
+        if (reload || model.getRowCount() == 0) refresh();
+    }
+
+    private void refresh() {
+        pager.reload();
+    }
+
+    private void render(List<Database.InterviewRecord> list) {
+        model.setRowCount(0);
+        
+        if (list.isEmpty()) {
+            model.addRow(new Object[]{"-", "No interviews scheduled", "-", "-", "-", "-", "-"});
+            return;
+        }
+        
+        for (Database.InterviewRecord i : list) {
+            String applicantName = i.applicantName != null ? i.applicantName : 
+                                  (i.applicantUsername != null ? i.applicantUsername : "N/A");
+            String jobTitle = i.jobTitle != null ? i.jobTitle : "N/A";
+            String date = i.interviewDate != null ? i.interviewDate.toString() : "N/A";
+            String time = i.interviewTime != null ? i.interviewTime : "N/A";
+            String status = i.status != null ? i.status : "SCHEDULED";
+            String notes = i.notes != null && !i.notes.isEmpty() ? 
+                          (i.notes.length() > 50 ? i.notes.substring(0, 50) + "..." : i.notes) : "No notes";
             
-            for (Database.InterviewRecord i : list) {
-                String applicantName = i.applicantName != null ? i.applicantName : 
-                                      (i.applicantUsername != null ? i.applicantUsername : "N/A");
-                String jobTitle = i.jobTitle != null ? i.jobTitle : "N/A";
-                String date = i.interviewDate != null ? i.interviewDate : "N/A";
-                String time = i.interviewTime != null ? i.interviewTime : "N/A";
-                String status = i.status != null ? i.status : "SCHEDULED";
-                String notes = i.notes != null && !i.notes.isEmpty() ? 
-                              (i.notes.length() > 50 ? i.notes.substring(0, 50) + "..." : i.notes) : "No notes";
-                
-                model.addRow(new Object[]{
-                    i.id,
-                    applicantName,
-                    jobTitle,
-                    date,
-                    time,
-                    status,
-                    notes
-                });
-            }
-        } catch (SQLException ex) {
-            JOptionPane.showMessageDialog(this, 
-                "Error loading interviews: " + ex.getMessage(), 
-                "Error", 
-                JOptionPane.ERROR_MESSAGE);
+            model.addRow(new Object[]{
+                i.id,
+                applicantName,
+                jobTitle,
+                date,
+                time,
+                status,
+                notes
+            });
         }
     }
 
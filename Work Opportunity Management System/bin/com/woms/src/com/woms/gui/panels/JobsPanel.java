@@ -1,8 +1,9 @@
 package com.woms.gui.panels;
 
+import com.woms.database.ChangeEvent;
 import com.woms.database.Database;
 import java.awt.*;
-import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.List;
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
@@ -12,6 +13,9 @@ public class JobsPanel extends JPanel {
     private JTable table;
     private JTextField titleF, descF, salaryF, skillsF;
     private JButton addBtn, deleteBtn;
+    // Bumped by every refresh; a list that arrives after a newer refresh started is dropped
+    private int refreshSeq;
+    private boolean refreshing;
 
     public JobsPanel() {
         setLayout(new BorderLayout());
@@ -97,50 +101,73 @@ public class JobsPanel extends JPanel {
         add(form, BorderLayout.SOUTH);
 
         addBtn.addActionListener(e -> {
-            try {
-                String t = titleF.getText().trim(); String d = descF.getText().trim();
-                double s = Double.parseDouble(salaryF.getText().trim());
-                String skills = skillsF.getText().trim();
-                if (t.isEmpty()) { JOptionPane.showMessageDialog(this,"Title required"); return; }
+            String t = titleF.getText().trim(); String d = descF.getText().trim();
+            double s;
+            try { s = Double.parseDouble(salaryF.getText().trim()); }
+            catch (NumberFormatException ex) { JOptionPane.showMessageDialog(this,"Salary must be a number"); return; }
+            String skills = skillsF.getText().trim();
+            if (t.isEmpty()) { JOptionPane.showMessageDialog(this,"Title required"); return; }
+            DbTask.run(this, () -> {
                 int jobId = Database.createJob(t,d,s);
                 // Add required skills if provided
                 if (!skills.isEmpty()) {
-                    String[] skillArray = skills.split(",");
-                    for (String skill : skillArray) {
-                        String skillTrimmed = skill.trim();
-                        if (!skillTrimmed.isEmpty()) {
-                            Database.addJobRequiredSkill(jobId, skillTrimmed);
-                        }
-                    }
+                    Database.addJobRequiredSkills(jobId, Arrays.asList(skills.split(",")));
                 }
-                refresh();
+                return jobId;
+            }, jobId -> {
                 JOptionPane.showMessageDialog(this,"Job added successfully!");
                 titleF.setText(""); descF.setText(""); salaryF.setText(""); skillsF.setText("");
-            } catch (NumberFormatException ex) { JOptionPane.showMessageDialog(this,"Salary must be a number"); }
-            catch (SQLException ex){ JOptionPane.showMessageDialog(this,"Error: "+ex.getMessage()); }
+            }, addBtn);
         });
 
         deleteBtn.addActionListener(e -> {
             int r = table.getSelectedRow(); if (r==-1) { JOptionPane.showMessageDialog(this,"Select row"); return; }
             int id = (int) model.getValueAt(r,0);
-            try { Database.deleteJob(id); refresh(); JOptionPane.showMessageDialog(this,"Deleted."); }
-            catch (SQLException ex) { JOptionPane.showMessageDialog(this,"Error: "+ex.getMessage()); }
+            DbTask.run(this, () -> { Database.deleteJob(id); return null; },
+                v -> JOptionPane.showMessageDialog(this,"Deleted."), deleteBtn);
         });
 
+        // Rows are patched from change events instead of reloading after every action
+        new ChangeCoalescer(this, this::applyChanges, ChangeEvent.Entity.JOB);
         refresh();
     }
 
+    private void applyChanges(List<ChangeEvent> events) {
+        if (refreshing) {
+            // The list on its way may predate these changes; fetch it again instead of patching
+            refresh();
+            return;
+        }
+        for (ChangeEvent e : events) {
+            if (e.kind == ChangeEvent.Kind.CREATED && e.record instanceof Database.JobRecord) {
+                Database.JobRecord j = (Database.JobRecord) e.record;
+                model.addRow(new Object[]{j.id,j.title,j.description,j.salary});
+            } else if (e.kind == ChangeEvent.Kind.DELETED) {
+                int row = ChangeCoalescer.findRow(model, 0, e.id);
+                if (row >= 0) model.removeRow(row);
+            } else {
+                refresh();
+                return;
+            }
+        }
+    }
+
     private void refresh() {
-        try {
+        int seq = ++refreshSeq;
+        refreshing = true;
+        DbTask.run(this, Database::getAllJobs, list -> {
+            if (seq != refreshSeq) return;
+            refreshing = false;
             model.setRowCount(0);
-            List<Database.JobRecord> list = Database.getAllJobs();
             for (Database.JobRecord j : list) model.addRow(new Object[]{j.id,j.title,j.description,j.salary});
-        } catch (SQLException ex) {
+        }, ex -> {
+            if (seq != refreshSeq) return;
+            refreshing = false;
             JOptionPane.showMessageDialog(this, 
                 "Error loading jobs: " + ex.getMessage(),
                 "Error",
                 JOptionPane.ERROR_MESSAGE);
-        }
+        });
     }
 
     private JPanel buttonPanel() {
@@ -0,0 +1,58 @@
+package com.woms.gui.panels;
+
+import java.awt.*;
+import javax.swing.*;
+
+/**
+ * Tab content that builds its real panel the first time the tab is selected.
+ *
+ * Until then the tab holds only a "Loading..." label, so opening a window with many tabs costs
+ * nothing but the visible one. The panel is built on the EDT just after the selection, letting
+ * the placeholder paint first; the panel's own data then arrives in the background (see DbTask).
+ */
+public class LazyTab extends JPanel {
+
+    public interface Factory {
+        JComponent create();
+    }
+
+    private Factory factory;
+
+    public LazyTab(Factory factory) {
+        super(new BorderLayout());
+        this.factory = factory;
+        setBackground(new Color(255, 255, 255));
+        JLabel placeholder = new JLabel("Loading...", SwingConstants.CENTER);
+        placeholder.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        placeholder.setForeground(new Color(120, 120, 120));
+        add(placeholder, BorderLayout.CENTER);
+    }
+
+    public boolean isBuilt() {
+        return factory == null;
+    }
+
+    /** Replace the placeholder with the real panel; does nothing once built. */
+    public void build() {
+        if (factory == null) return;
+        JComponent content = factory.create();
+        factory = null;
+        removeAll();
+        add(content, BorderLayout.CENTER);
+        revalidate();
+        repaint();
+    }
+
+    /** Build each LazyTab of tabs when it is first selected, starting with the selected one. */
+    public static void install(JTabbedPane tabs) {
+        tabs.addChangeListener(e -> buildSelected(tabs));
+        buildSelected(tabs);
+    }
+
+    private static void buildSelected(JTabbedPane tabs) {
+        Component selected = tabs.getSelectedComponent();
+        if (selected instanceof LazyTab && !((LazyTab) selected).isBuilt()) {
+            SwingUtilities.invokeLater(((LazyTab) selected)::build);
+        }
+    }
+}
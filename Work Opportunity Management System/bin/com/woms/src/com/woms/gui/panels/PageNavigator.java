@@ -0,0 +1,154 @@
+package com.woms.gui.panels;
+
+import com.woms.database.Database;
+import java.awt.*;
+import java.sql.SQLException;
+import java.util.List;
+import javax.swing.*;
+
+/**
+ * Previous/Next bar for the admin tables. Keeps the keys of the screen on display and asks the
+ * loader for the neighbouring screen, so the panels never hold more than one page of rows.
+ * Pages load off the EDT through {@link DbTask}; while one is loading the buttons are disabled,
+ * and a page that arrives after a newer request was made is dropped.
+ */
+public class PageNavigator<T> extends JPanel {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    public interface Loader<T> {
+        Database.Page<T> load(Integer fromKey, Database.PageDirection direction, int limit) throws SQLException;
+    }
+
+    public interface Renderer<T> {
+        void render(List<T> rows);
+    }
+
+    public interface ErrorHandler {
+        void loadFailed(Exception error);
+    }
+
+    private final Loader<T> loader;
+    private final Renderer<T> renderer;
+    private final int pageSize;
+    private final JButton prevBtn = new JButton("◀ Previous");
+    private final JButton nextBtn = new JButton("Next ▶");
+    private final JLabel info = new JLabel(" ");
+
+    private ErrorHandler errorHandler = error -> DbTask.showError(this, "Error loading page: ", error);
+
+    private Database.Page<T> current;
+    private int pageNumber = 1;
+    // Bumped by every request; only the newest request's page is displayed
+    private int loadSeq;
+
+    public PageNavigator(Loader<T> loader, Renderer<T> renderer) {
+        this(loader, renderer, DEFAULT_PAGE_SIZE);
+    }
+
+    public PageNavigator(Loader<T> loader, Renderer<T> renderer, int pageSize) {
+        super(new FlowLayout(FlowLayout.CENTER, 12, 6));
+        this.loader = loader;
+        this.renderer = renderer;
+        this.pageSize = pageSize;
+        setBackground(new Color(255, 255, 255));
+        info.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        info.setForeground(new Color(100, 100, 100));
+        for (JButton b : new JButton[]{prevBtn, nextBtn}) {
+            b.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+            b.setFocusPainted(false);
+        }
+        add(prevBtn);
+        add(info);
+        add(nextBtn);
+        prevBtn.setEnabled(false);
+        nextBtn.setEnabled(false);
+
+        prevBtn.addActionListener(e -> previous());
+        nextBtn.addActionListener(e -> next());
+    }
+
+    /** Called on the EDT when a page cannot be loaded; the default shows a message dialog. */
+    public void setErrorHandler(ErrorHandler errorHandler) {
+        this.errorHandler = errorHandler;
+    }
+
+    /** Show the newest screen. */
+    public void first() {
+        load(null, Database.PageDirection.NEXT, 1, false);
+    }
+
+    /** Reload the screen on display (after an edit), keeping the user's place. */
+    public void reload() {
+        if (current == null || current.firstKey == null || pageNumber == 1) {
+            first();
+            return;
+        }
+        // firstKey + 1 is exclusive, so the screen starts again at the same row
+        load(current.firstKey + 1, Database.PageDirection.NEXT, pageNumber, true);
+    }
+
+    /** True while the newest rows are on display, i.e. where a newly created row would appear. */
+    public boolean isOnFirstPage() {
+        return pageNumber == 1;
+    }
+
+    private void next() {
+        if (current == null || current.lastKey == null) return;
+        load(current.lastKey, Database.PageDirection.NEXT, pageNumber + 1, false);
+    }
+
+    private void previous() {
+        if (current == null || current.firstKey == null) return;
+        load(current.firstKey, Database.PageDirection.PREVIOUS, pageNumber - 1, true);
+    }
+
+    /**
+     * Fetch one screen in the background. With fallBackToFirst, an empty screen (rows deleted
+     * meanwhile) or a previous screen that reached the newest rows loads the first screen instead,
+     * so the table is always full from the top.
+     */
+    private void load(Integer fromKey, Database.PageDirection direction, int number, boolean fallBackToFirst) {
+        int seq = ++loadSeq;
+        info.setText("Loading...");
+        prevBtn.setEnabled(false);
+        nextBtn.setEnabled(false);
+        DbTask.run(busyOwner(), () -> loader.load(fromKey, direction, pageSize), page -> {
+            if (seq != loadSeq) return;
+            if (fallBackToFirst && (page.rows.isEmpty()
+                    || (direction == Database.PageDirection.PREVIOUS && !page.hasPrevious))) {
+                first();
+            } else {
+                display(page, number);
+            }
+        }, error -> {
+            if (seq != loadSeq) return;
+            // Keep the screen on display and let the user retry from it
+            if (current != null) {
+                display(current, pageNumber);
+            } else {
+                info.setText("Not loaded");
+            }
+            errorHandler.loadFailed(error);
+        });
+    }
+
+    // The wait cursor covers the table the bar belongs to, not just the bar
+    private Component busyOwner() {
+        return getParent() != null ? getParent() : this;
+    }
+
+    private void display(Database.Page<T> page, int number) {
+        current = page;
+        pageNumber = Math.max(1, number);
+        renderer.render(page.rows);
+        prevBtn.setEnabled(pageNumber > 1);
+        nextBtn.setEnabled(page.hasNext);
+        if (page.rows.isEmpty()) {
+            info.setText("No rows");
+        } else {
+            int from = (pageNumber - 1) * pageSize + 1;
+            info.setText("Page " + pageNumber + "  (rows " + from + "–" + (from + page.rows.size() - 1) + ")");
+        }
+    }
+}
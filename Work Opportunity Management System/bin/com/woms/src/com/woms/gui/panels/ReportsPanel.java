@@ -1,17 +1,37 @@
 package com.woms.gui.panels;
 
+import com.woms.database.ChangeEvent;
 import com.woms.database.Database;
 
 
 // ReportsPanel.java - Enhanced with poverty reduction metrics
 import java.awt.*;
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.zip.GZIPOutputStream;
 import javax.swing.*;
 
 public class ReportsPanel extends JPanel {
+    private JCheckBox compressExports;
+    private JProgressBar exportProgress;
+    private boolean exportRunning = false;
+    private JPanel metricsPanel;
+
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
     public ReportsPanel() {
         setLayout(new BorderLayout());
         setBackground(new Color(248, 250, 252));
@@ -23,8 +43,11 @@ public class ReportsPanel extends JPanel {
         add(title, BorderLayout.NORTH);
 
         // Poverty Metrics Panel
-        JPanel metricsPanel = createPovertyMetricsPanel();
+        metricsPanel = createPovertyMetricsPanel();
         add(metricsPanel, BorderLayout.CENTER);
+        // Cards are re-read after writes that move them, only while this tab is on screen
+        new ChangeCoalescer(this, events -> loadMetrics(metricsPanel), ChangeEvent.Entity.APPLICANT,
+            ChangeEvent.Entity.APPLICATION, ChangeEvent.Entity.EMPLOYMENT, ChangeEvent.Entity.TRAINING_PROGRAM);
 
         // Export Panel
         JPanel exportPanel = new JPanel(new GridLayout(0, 2, 10, 10));
@@ -56,7 +79,23 @@ public class ReportsPanel extends JPanel {
         exportPanel.add(exportResources);
         exportPanel.add(exportPovertyReport);
 
-        add(exportPanel, BorderLayout.SOUTH);
+        // Large exports run in the background; this row shows which file is being written and how far along it is
+        compressExports = new JCheckBox("Compress large exports (.gz)");
+        compressExports.setBackground(new Color(248, 250, 252));
+        compressExports.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        exportProgress = new JProgressBar();
+        exportProgress.setStringPainted(true);
+        exportProgress.setString("");
+        JPanel exportStatus = new JPanel(new BorderLayout(10, 0));
+        exportStatus.setBorder(BorderFactory.createEmptyBorder(0, 16, 12, 16));
+        exportStatus.setBackground(new Color(248, 250, 252));
+        exportStatus.add(compressExports, BorderLayout.WEST);
+        exportStatus.add(exportProgress, BorderLayout.CENTER);
+
+        JPanel south = new JPanel(new BorderLayout());
+        south.add(exportPanel, BorderLayout.CENTER);
+        south.add(exportStatus, BorderLayout.SOUTH);
+        add(south, BorderLayout.SOUTH);
     }
 
     private JPanel createPovertyMetricsPanel() {
@@ -64,42 +103,41 @@ public class ReportsPanel extends JPanel {
         panel.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
         panel.setBackground(new Color(248, 250, 252));
 
-        try {
-            // Employment metrics
-            List<Database.EmploymentStatusRecord> employment = Database.getAllEmploymentStatus();
-            long totalEmployed = employment.stream().filter(e -> "EMPLOYED".equals(e.status)).count();
-            double totalMonthlyIncome = employment.stream().filter(e -> "EMPLOYED".equals(e.status)).mapToDouble(e -> e.monthlyIncome).sum();
-            double avgIncome = totalEmployed > 0 ? totalMonthlyIncome / totalEmployed : 0;
-
-            // Application metrics
-            List<Database.ApplicationRecord> applications = Database.getAllApplications();
-            long totalApplications = applications.size();
-            long approvedApps = applications.stream().filter(a -> "APPROVED".equals(a.status)).count();
-            double approvalRate = totalApplications > 0 ? (approvedApps * 100.0 / totalApplications) : 0;
-
-            // Training metrics
-            List<Database.TrainingProgramRecord> trainings = Database.getAllTrainingPrograms();
-            long activeTrainings = trainings.stream().filter(t -> "ACTIVE".equals(t.status)).count();
-
-            // Applicant metrics
-            List<Database.ApplicantRecord> applicants = Database.getAllApplicants();
-            long totalApplicants = applicants.size();
-            double employmentRate = totalApplicants > 0 ? (totalEmployed * 100.0 / totalApplicants) : 0;
-
-            panel.add(createMetricCard("Total Applicants", String.valueOf(totalApplicants), "Registered beneficiaries", new Color(60, 130, 255)));
-            panel.add(createMetricCard("Employed", String.valueOf(totalEmployed), String.format("%.1f%% employment rate", employmentRate), new Color(60, 180, 80)));
-            panel.add(createMetricCard("Total Monthly Income", String.format("₱%,.2f", totalMonthlyIncome), "From all employed", new Color(255, 165, 0)));
-            panel.add(createMetricCard("Average Income", String.format("₱%,.2f", avgIncome), "Per employed person", new Color(60, 180, 80)));
-            panel.add(createMetricCard("Job Applications", String.valueOf(totalApplications), String.format("%.1f%% approval rate", approvalRate), new Color(100, 150, 255)));
-            panel.add(createMetricCard("Active Training Programs", String.valueOf(activeTrainings), "Skills development", new Color(255, 140, 0)));
-
-        } catch (SQLException ex) {
-            panel.add(createMetricCard("Error", "Loading...", ex.getMessage(), new Color(220, 60, 60)));
-        }
+        // All cards come from one aggregate query; placeholders show until it returns
+        fillMetrics(panel, null);
+        loadMetrics(panel);
 
         return panel;
     }
 
+    private void loadMetrics(JPanel panel) {
+        DbTask.run(panel, Database::getDashboardMetrics, m -> fillMetrics(panel, m), ex -> {
+            panel.removeAll();
+            panel.add(createMetricCard("Error", "Loading...", ex.getMessage(), new Color(220, 60, 60)));
+            panel.revalidate();
+            panel.repaint();
+        });
+    }
+
+    private void fillMetrics(JPanel panel, Database.DashboardMetrics m) {
+        panel.removeAll();
+        if (m == null) {
+            String[] titles = {"Total Applicants", "Employed", "Total Monthly Income", "Average Income", "Job Applications", "Active Training Programs"};
+            for (String t : titles) {
+                panel.add(createMetricCard(t, "...", "Loading", new Color(180, 180, 180)));
+            }
+        } else {
+            panel.add(createMetricCard("Total Applicants", String.valueOf(m.applicants), "Registered beneficiaries", new Color(60, 130, 255)));
+            panel.add(createMetricCard("Employed", String.valueOf(m.employed), String.format("%.1f%% employment rate", m.employmentRate()), new Color(60, 180, 80)));
+            panel.add(createMetricCard("Total Monthly Income", String.format("₱%,.2f", m.totalMonthlyIncome), "From all employed", new Color(255, 165, 0)));
+            panel.add(createMetricCard("Average Income", String.format("₱%,.2f", m.averageIncome()), "Per employed person", new Color(60, 180, 80)));
+            panel.add(createMetricCard("Job Applications", String.valueOf(m.applications), String.format("%.1f%% approval rate", m.approvalRate()), new Color(100, 150, 255)));
+            panel.add(createMetricCard("Active Training Programs", String.valueOf(m.activeTrainingPrograms), "Skills development", new Color(255, 140, 0)));
+        }
+        panel.revalidate();
+        panel.repaint();
+    }
+
     private JPanel createMetricCard(String title, String value, String subtitle, Color color) {
         JPanel card = new JPanel(new BorderLayout());
         card.setBackground(Color.WHITE);
@@ -127,53 +165,112 @@ public class ReportsPanel extends JPanel {
     }
 
     private void exportApplicants() {
-        try {
-            List<Database.ApplicantRecord> list = Database.getAllApplicants();
-            try (PrintWriter pw = new PrintWriter(new FileWriter("applicants.csv"))) {
-                pw.println("userId,username,name,age,phone");
-                for (Database.ApplicantRecord a : list) {
-                    pw.println(a.userId + "," + a.username + "," + safe(a.name) + "," + a.age + "," + safe(a.phone));
-                }
-            }
-            JOptionPane.showMessageDialog(this, "applicants.csv created successfully!");
-        } catch (Exception ex) {
-            JOptionPane.showMessageDialog(this, "Error: " + ex.getMessage());
-        }
+        streamExport("applicants", "userId,username,name,age,phone", (out, progress) ->
+            Database.streamApplicants(a -> {
+                out.write(a.userId + "," + a.username + "," + safe(a.name) + "," + a.age + "," + safe(a.phone));
+                out.newLine();
+                progress.rowWritten();
+            }));
     }
 
     private void exportApplications() {
-        try {
-            List<Database.ApplicationRecord> list = Database.getAllApplications();
-            try (PrintWriter pw = new PrintWriter(new FileWriter("applications.csv"))) {
-                pw.println("applicationId,applicantId,applicantName,jobId,jobTitle,status");
-                for (Database.ApplicationRecord a : list) {
-                    pw.println(a.id + "," + a.applicantId + "," + safe(a.applicantName) + "," + a.jobId + "," + safe(a.jobTitle) + "," + a.status);
-                }
-            }
-            JOptionPane.showMessageDialog(this, "applications.csv created successfully!");
-        } catch (Exception ex) {
-            JOptionPane.showMessageDialog(this, "Error: " + ex.getMessage());
-        }
+        streamExport("applications", "applicationId,applicantId,applicantName,jobId,jobTitle,status", (out, progress) ->
+            Database.streamApplications(a -> {
+                out.write(a.id + "," + a.applicantId + "," + safe(a.applicantName) + "," + a.jobId + "," + safe(a.jobTitle) + "," + a.status);
+                out.newLine();
+                progress.rowWritten();
+            }));
     }
 
     private void exportEmployment() {
-        try {
-            List<Database.EmploymentStatusRecord> list = Database.getAllEmploymentStatus();
-            try (PrintWriter pw = new PrintWriter(new FileWriter("employment_status.csv"))) {
-                pw.println("employmentId,applicantId,applicantName,jobId,jobTitle,startDate,monthlyIncome,status");
-                for (Database.EmploymentStatusRecord e : list) {
-                    pw.println(e.id + "," + e.applicantId + "," + safe(e.applicantName) + "," + e.jobId + "," + safe(e.jobTitle) + "," + safe(e.startDate) + "," + e.monthlyIncome + "," + e.status);
+        streamExport("employment_status", "employmentId,applicantId,applicantName,jobId,jobTitle,startDate,monthlyIncome,status", (out, progress) ->
+            Database.streamEmploymentStatus(e -> {
+                out.write(e.id + "," + e.applicantId + "," + safe(e.applicantName) + "," + e.jobId + "," + safe(e.jobTitle) + "," + (e.startDate != null ? e.startDate.toString() : "") + "," + e.monthlyIncome + "," + e.status);
+                out.newLine();
+                progress.rowWritten();
+            }));
+    }
+
+    private interface ExportProgress {
+        void rowWritten();
+    }
+
+    private interface ExportBody {
+        void write(BufferedWriter out, ExportProgress progress) throws SQLException, IOException;
+    }
+
+    /**
+     * Write one CSV export on a background thread. Rows are streamed from a database cursor into a
+     * buffered (optionally gzip-compressed) file, so memory use does not grow with the table, and the
+     * progress bar is updated every few thousand rows. The rows go to a .part file that replaces the
+     * export only once it is complete, so a failed export never leaves a truncated file behind.
+     */
+    private void streamExport(String baseName, String header, ExportBody body) {
+        if (exportRunning) {
+            JOptionPane.showMessageDialog(this, "Another export is still running. Please wait for it to finish.");
+            return;
+        }
+        boolean gzip = compressExports.isSelected();
+        String fileName = baseName + (gzip ? ".csv.gz" : ".csv");
+        exportRunning = true;
+        exportProgress.setIndeterminate(true);
+        exportProgress.setString("Exporting " + fileName + "...");
+
+        new SwingWorker<Long, Long>() {
+            private long rows = 0;
+
+            @Override
+            protected Long doInBackground() throws Exception {
+                Path target = Paths.get(fileName);
+                Path part = Paths.get(fileName + ".part");
+                try {
+                    try (OutputStream file = new FileOutputStream(part.toFile());
+                         OutputStream sink = gzip ? new GZIPOutputStream(file, EXPORT_BUFFER_SIZE) : file;
+                         BufferedWriter out = new BufferedWriter(new OutputStreamWriter(sink, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE)) {
+                        out.write(header);
+                        out.newLine();
+                        body.write(out, () -> {
+                            if (++rows % 5000 == 0) publish(rows);
+                        });
+                    }
+                    Files.move(part, target, StandardCopyOption.REPLACE_EXISTING);
+                } catch (Exception e) {
+                    Files.deleteIfExists(part);
+                    throw e;
                 }
+                return rows;
             }
-            JOptionPane.showMessageDialog(this, "employment_status.csv created successfully!");
-        } catch (Exception ex) {
-            JOptionPane.showMessageDialog(this, "Error: " + ex.getMessage());
-        }
+
+            @Override
+            protected void process(List<Long> counts) {
+                exportProgress.setString("Exporting " + fileName + ": " + String.format("%,d", counts.get(counts.size() - 1)) + " rows");
+            }
+
+            @Override
+            protected void done() {
+                exportRunning = false;
+                exportProgress.setIndeterminate(false);
+                try {
+                    long written = get();
+                    exportProgress.setString(fileName + ": " + String.format("%,d", written) + " rows");
+                    JOptionPane.showMessageDialog(ReportsPanel.this, fileName + " created successfully! (" + String.format("%,d", written) + " rows)");
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException ex) {
+                    exportProgress.setString("Export failed: " + fileName);
+                    JOptionPane.showMessageDialog(ReportsPanel.this, "Error: " + ex.getCause().getMessage());
+                }
+            }
+        }.execute();
     }
 
+    // The small exports read the (cached) list in the background and write the file once it arrives
     private void exportTraining() {
+        DbTask.run(this, Database::getAllTrainingPrograms, this::writeTraining);
+    }
+
+    private void writeTraining(List<Database.TrainingProgramRecord> list) {
         try {
-            List<Database.TrainingProgramRecord> list = Database.getAllTrainingPrograms();
             try (PrintWriter pw = new PrintWriter(new FileWriter("training_programs.csv"))) {
                 pw.println("programId,title,description,durationDays,skillsTaught,status");
                 for (Database.TrainingProgramRecord t : list) {
@@ -187,8 +284,11 @@ public class ReportsPanel extends JPanel {
     }
 
     private void exportResources() {
+        DbTask.run(this, Database::getAllResources, this::writeResources);
+    }
+
+    private void writeResources(List<Database.ResourceRecord> list) {
         try {
-            List<Database.ResourceRecord> list = Database.getAllResources();
             try (PrintWriter pw = new PrintWriter(new FileWriter("resources.csv"))) {
                 pw.println("resourceId,name,quantity");
                 for (Database.ResourceRecord r : list) {
@@ -202,19 +302,19 @@ public class ReportsPanel extends JPanel {
     }
 
     private void generatePovertyReport() {
+        DbTask.run(this, Database::getDashboardMetrics, this::writePovertyReport,
+            ex -> DbTask.showError(this, "Error generating report: ", ex));
+    }
+
+    private void writePovertyReport(Database.DashboardMetrics m) {
         try {
-            List<Database.ApplicantRecord> applicants = Database.getAllApplicants();
-            List<Database.EmploymentStatusRecord> employment = Database.getAllEmploymentStatus();
-            List<Database.ApplicationRecord> applications = Database.getAllApplications();
-            List<Database.TrainingProgramRecord> trainings = Database.getAllTrainingPrograms();
-
-            long totalApplicants = applicants.size();
-            long totalEmployed = employment.stream().filter(e -> "EMPLOYED".equals(e.status)).count();
-            double totalIncome = employment.stream().filter(e -> "EMPLOYED".equals(e.status)).mapToDouble(e -> e.monthlyIncome).sum();
-            double avgIncome = totalEmployed > 0 ? totalIncome / totalEmployed : 0;
-            double employmentRate = totalApplicants > 0 ? (totalEmployed * 100.0 / totalApplicants) : 0;
-            long approvedApps = applications.stream().filter(a -> "APPROVED".equals(a.status)).count();
-            long activeTrainings = trainings.stream().filter(t -> "ACTIVE".equals(t.status)).count();
+            long totalApplicants = m.applicants;
+            long totalEmployed = m.employed;
+            double totalIncome = m.totalMonthlyIncome;
+            double avgIncome = m.averageIncome();
+            double employmentRate = m.employmentRate();
+            long approvedApps = m.approvedApplications;
+            long activeTrainings = m.activeTrainingPrograms;
 
             try (PrintWriter pw = new PrintWriter(new FileWriter("poverty_reduction_report.txt"))) {
                 pw.println("==========================================");
@@ -233,9 +333,9 @@ public class ReportsPanel extends JPanel {
                 pw.println("  Estimated Annual Income: ₱" + String.format("%,.2f", totalIncome * 12));
                 pw.println();
                 pw.println("JOB OPPORTUNITIES:");
-                pw.println("  Total Applications: " + applications.size());
+                pw.println("  Total Applications: " + m.applications);
                 pw.println("  Approved Applications: " + approvedApps);
-                pw.println("  Approval Rate: " + String.format("%.2f%%", applications.size() > 0 ? (approvedApps * 100.0 / applications.size()) : 0));
+                pw.println("  Approval Rate: " + String.format("%.2f%%", m.approvalRate()));
                 pw.println();
                 pw.println("SKILLS DEVELOPMENT:");
                 pw.println("  Active Training Programs: " + activeTrainings);
@@ -1,8 +1,8 @@
 package com.woms.gui.panels;
 
+import com.woms.database.ChangeEvent;
 import com.woms.database.Database;
 import java.awt.*;
-import java.sql.SQLException;
 import java.util.List;
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
@@ -12,6 +12,9 @@ public class SkillsTrainingPanel extends JPanel {
     private JTable programTable, enrollmentTable;
     private JTextField titleF, descF, durationF, skillsF;
     private JButton addProgramBtn, deleteProgramBtn;
+    // Bumped by every reload of a table; a list that arrives after a newer reload started is dropped
+    private int programsSeq, enrollmentsSeq;
+    private boolean programsLoading;
 
     public SkillsTrainingPanel() {
         setLayout(new BorderLayout());
@@ -31,6 +34,38 @@ public class SkillsTrainingPanel extends JPanel {
         splitPane.setDividerLocation(500);
         splitPane.setResizeWeight(0.5);
         add(splitPane, BorderLayout.CENTER);
+
+        // Rows are patched from change events instead of reloading after every action
+        new ChangeCoalescer(this, this::applyChanges, ChangeEvent.Entity.TRAINING_PROGRAM, ChangeEvent.Entity.TRAINING_ENROLLMENT);
+    }
+
+    private void applyChanges(List<ChangeEvent> events) {
+        boolean reloadPrograms = false, reloadEnrollments = false;
+        for (ChangeEvent e : events) {
+            if (e.entity == ChangeEvent.Entity.TRAINING_ENROLLMENT) {
+                // The enrollments table shows joined names and has no id column to patch by
+                reloadEnrollments = true;
+            } else if (programsLoading) {
+                // The list on its way may predate this change; fetch it again instead of patching
+                reloadPrograms = true;
+            } else if (e.kind == ChangeEvent.Kind.CREATED && e.record instanceof Database.TrainingProgramRecord) {
+                Database.TrainingProgramRecord p = (Database.TrainingProgramRecord) e.record;
+                programModel.addRow(new Object[]{
+                    p.id, 
+                    p.title != null ? p.title : "N/A", 
+                    p.durationDays, 
+                    p.skillsTaught != null ? p.skillsTaught : "N/A", 
+                    p.status != null ? p.status : "N/A"
+                });
+            } else if (e.kind == ChangeEvent.Kind.DELETED) {
+                int row = ChangeCoalescer.findRow(programModel, 0, e.id);
+                if (row >= 0) programModel.removeRow(row);
+            } else {
+                reloadPrograms = true;
+            }
+        }
+        if (reloadPrograms) refreshPrograms();
+        if (reloadEnrollments) refreshEnrollments();
     }
 
     private JPanel createProgramsPanel() {
@@ -120,27 +155,27 @@ public class SkillsTrainingPanel extends JPanel {
         panel.add(form, BorderLayout.SOUTH);
 
         addProgramBtn.addActionListener(e -> {
+            String title = titleF.getText().trim();
+            String desc = descF.getText().trim();
+            int duration;
             try {
-                String title = titleF.getText().trim();
-                String desc = descF.getText().trim();
-                int duration = Integer.parseInt(durationF.getText().trim());
-                String skills = skillsF.getText().trim();
-                if (title.isEmpty()) {
-                    JOptionPane.showMessageDialog(this, "Title required");
-                    return;
-                }
-                Database.createTrainingProgram(title, desc, duration, skills);
-                refreshPrograms();
+                duration = Integer.parseInt(durationF.getText().trim());
+            } catch (NumberFormatException ex) {
+                JOptionPane.showMessageDialog(this, "Duration must be a number");
+                return;
+            }
+            String skills = skillsF.getText().trim();
+            if (title.isEmpty()) {
+                JOptionPane.showMessageDialog(this, "Title required");
+                return;
+            }
+            DbTask.run(this, () -> Database.createTrainingProgram(title, desc, duration, skills), id -> {
                 JOptionPane.showMessageDialog(this, "Training program added!");
                 titleF.setText("");
                 descF.setText("");
                 durationF.setText("");
                 skillsF.setText("");
-            } catch (NumberFormatException ex) {
-                JOptionPane.showMessageDialog(this, "Duration must be a number");
-            } catch (SQLException ex) {
-                JOptionPane.showMessageDialog(this, "Error: " + ex.getMessage());
-            }
+            }, addProgramBtn);
         });
 
         deleteProgramBtn.addActionListener(e -> {
@@ -155,13 +190,8 @@ public class SkillsTrainingPanel extends JPanel {
                 "Confirm Delete", 
                 JOptionPane.YES_NO_OPTION);
             if (confirm == JOptionPane.YES_OPTION) {
-                try {
-                    Database.deleteTrainingProgram(programId);
-                    refreshPrograms();
-                    JOptionPane.showMessageDialog(this, "Training program deleted!");
-                } catch (SQLException ex) {
-                    JOptionPane.showMessageDialog(this, "Error: " + ex.getMessage());
-                }
+                DbTask.run(this, () -> { Database.deleteTrainingProgram(programId); return null; },
+                    v -> JOptionPane.showMessageDialog(this, "Training program deleted!"), deleteProgramBtn);
             }
         });
 
@@ -198,9 +228,12 @@ public class SkillsTrainingPanel extends JPanel {
     }
 
     private void refreshPrograms() {
-        try {
+        int seq = ++programsSeq;
+        programsLoading = true;
+        DbTask.run(programTable, Database::getAllTrainingPrograms, programs -> {
+            if (seq != programsSeq) return;
+            programsLoading = false;
             programModel.setRowCount(0);
-            List<Database.TrainingProgramRecord> programs = Database.getAllTrainingPrograms();
             for (Database.TrainingProgramRecord p : programs) {
                 programModel.addRow(new Object[]{
                     p.id, 
@@ -210,21 +243,23 @@ public class SkillsTrainingPanel extends JPanel {
                     p.status != null ? p.status : "N/A"
                 });
             }
-        } catch (SQLException ex) {
+        }, ex -> {
+            if (seq != programsSeq) return;
+            programsLoading = false;
             JOptionPane.showMessageDialog(this, 
                 "Error loading training programs: " + ex.getMessage(),
                 "Error",
                 JOptionPane.ERROR_MESSAGE);
-        }
+        });
     }
 
     private void refreshEnrollments() {
-        try {
+        int seq = ++enrollmentsSeq;
+        DbTask.run(enrollmentTable, Database::getAllTrainingEnrollments, enrollments -> {
+            if (seq != enrollmentsSeq) return;
             enrollmentModel.setRowCount(0);
-            List<Database.TrainingEnrollmentRecord> enrollments = Database.getAllTrainingEnrollments();
             for (Database.TrainingEnrollmentRecord e : enrollments) {
-                String date = e.enrollmentDate != null && e.enrollmentDate.length() > 10 ? 
-                    e.enrollmentDate.substring(0, 10) : (e.enrollmentDate != null ? e.enrollmentDate : "N/A");
+                String date = e.enrollmentDate != null ? e.enrollmentDate.toLocalDate().toString() : "N/A";
                 enrollmentModel.addRow(new Object[]{
                     e.applicantUsername != null ? e.applicantUsername : "N/A",
                     e.programTitle != null ? e.programTitle : "N/A",
@@ -232,12 +267,13 @@ public class SkillsTrainingPanel extends JPanel {
                     e.status != null ? e.status : "N/A"
                 });
             }
-        } catch (SQLException ex) {
+        }, ex -> {
+            if (seq != enrollmentsSeq) return;
             JOptionPane.showMessageDialog(this, 
                 "Error loading enrollments: " + ex.getMessage(),
                 "Error",
                 JOptionPane.ERROR_MESSAGE);
-        }
+        });
     }
 
     private JLabel label(String t) {
@@ -2,6 +2,9 @@ package com.woms.main;
 
 import com.woms.database.Database;
 import com.woms.gui.frames.RoleSelectionFrame;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.swing.*;
 
 public class Main {
@@ -12,34 +15,45 @@ public class Main {
             return;
         }
         
-        try {
-            Database.init();
-            // Always ensure poverty reduction jobs exist (removes IT jobs and creates poverty jobs)
-            Database.ensurePovertyReductionJobs();
+        // Database work runs in the background while the window comes up; sign-in waits for the
+        // required stages. schema -> jobs -> seed is the critical path, the rest runs alongside.
+        AtomicBoolean online = new AtomicBoolean();
+        Startup startup = new Startup(2)
+            .required("schema", () -> online.set(Database.initSchema()))
+            // Bring the jobs table in line with the job catalog (a no-op when it already matches)
+            .required("jobs", Database::ensurePovertyReductionJobs, "schema")
             // Seed sample data if database is empty
-            Database.seedSampleData();
-            // Start H2 web console in a separate thread so it doesn't block the GUI
-            new Thread(() -> {
-                try {
-                    Thread.sleep(1000); // Wait 1 second for initialization
-                    Database.startWebConsole();
-                } catch (Exception e) {
-                    // Console startup failed, but app can still run
-                }
-            }).start();
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(null, 
-                "Failed to initialize database:\n" + e.getMessage() + 
-                "\n\nPlease ensure h2-1.4.200.jar (Java 8 compatible) is in your classpath.",
-                "Database Error", JOptionPane.ERROR_MESSAGE);
-            return;
+            .required("seed", Database::seedSampleData, "jobs")
+            // Mirror the users into accounts.txt; logins do not depend on it
+            .background("accounts", () -> {
+                if (online.get()) Database.syncAccountsFile();
+            }, "schema");
+        if (webConsoleRequested(args)) {
+            // H2 web console only when asked for: --web-console or -Dwoms.webConsole=true
+            startup.background("console", Database::startWebConsole, "schema");
         }
+        if (metricsReconcileRequested(args)) {
+            // Catch the dashboard counters up with edits made outside the app (e.g. in the web console):
+            // --reconcile-metrics or -Dwoms.reconcileMetrics=true
+            startup.background("metrics", Database::reconcileDashboardMetrics, "seed");
+        }
+        CompletableFuture<Void> ready = startup.start();
 
         SwingUtilities.invokeLater(() -> {
             RoleSelectionFrame roleFrame = new RoleSelectionFrame();
+            roleFrame.holdUntil(ready);
             roleFrame.setVisible(true);
+            System.out.printf("[startup] window shown at %.0f ms%n", startup.sinceStart());
         });
     }
+
+    private static boolean webConsoleRequested(String[] args) {
+        return Arrays.asList(args).contains("--web-console") || Boolean.getBoolean("woms.webConsole");
+    }
+
+    private static boolean metricsReconcileRequested(String[] args) {
+        return Arrays.asList(args).contains("--reconcile-metrics") || Boolean.getBoolean("woms.reconcileMetrics");
+    }
     
     private static boolean checkDriver() {
         try {
@@ -0,0 +1,110 @@
+package com.woms.main;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the start-up work as a small dependency graph on background threads.
+ *
+ * Each stage names the stages it needs; a stage starts as soon as all of those have finished,
+ * so independent stages run side by side, and each one logs how long it took. A stage that
+ * throws is logged and its dependants still run, like the old sequential start-up where every
+ * step carried on in offline mode. required() completes when every stage marked required has
+ * finished; the window waits for that before letting anyone sign in.
+ */
+public class Startup {
+
+    public interface Work {
+        void run() throws Exception;
+    }
+
+    private static class Stage {
+        final String name;
+        final String[] after;
+        final boolean required;
+        final Work work;
+        CompletableFuture<Void> done;
+
+        Stage(String name, String[] after, boolean required, Work work) {
+            this.name = name;
+            this.after = after;
+            this.required = required;
+            this.work = work;
+        }
+    }
+
+    private final Map<String, Stage> stages = new LinkedHashMap<>();
+    private final long startNanos = System.nanoTime();
+    private final ExecutorService executor;
+
+    public Startup(int threads) {
+        AtomicInteger seq = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "woms-startup-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /** A stage the sign-in screen waits for. Stages must be added after the ones they depend on. */
+    public Startup required(String name, Work work, String... after) {
+        return add(new Stage(name, after, true, work));
+    }
+
+    /** A stage nothing waits for (housekeeping). */
+    public Startup background(String name, Work work, String... after) {
+        return add(new Stage(name, after, false, work));
+    }
+
+    private Startup add(Stage stage) {
+        for (String dep : stage.after) {
+            if (!stages.containsKey(dep)) {
+                throw new IllegalArgumentException("Stage " + stage.name + " needs unknown stage " + dep);
+            }
+        }
+        stages.put(stage.name, stage);
+        return this;
+    }
+
+    /** Start every stage; the returned future completes when the required ones are done. */
+    public CompletableFuture<Void> start() {
+        List<CompletableFuture<Void>> required = new ArrayList<>();
+        List<CompletableFuture<Void>> all = new ArrayList<>();
+        for (Stage stage : stages.values()) {
+            CompletableFuture<?>[] deps = new CompletableFuture<?>[stage.after.length];
+            for (int i = 0; i < deps.length; i++) {
+                deps[i] = stages.get(stage.after[i]).done;
+            }
+            stage.done = CompletableFuture.allOf(deps).thenRunAsync(() -> run(stage), executor);
+            all.add(stage.done);
+            if (stage.required) required.add(stage.done);
+        }
+        CompletableFuture.allOf(all.toArray(new CompletableFuture<?>[0])).whenComplete((v, e) -> {
+            System.out.printf("[startup] all stages done at %.0f ms%n", sinceStart());
+            executor.shutdown();
+        });
+        return CompletableFuture.allOf(required.toArray(new CompletableFuture<?>[0]));
+    }
+
+    private void run(Stage stage) {
+        long t = System.nanoTime();
+        try {
+            stage.work.run();
+            System.out.printf("[startup] %-10s %6.0f ms (finished at %.0f ms)%n",
+                    stage.name, (System.nanoTime() - t) / 1e6, sinceStart());
+        } catch (Exception e) {
+            System.err.printf("[startup] %-10s failed after %.0f ms: %s%n",
+                    stage.name, (System.nanoTime() - t) / 1e6, e.getMessage());
+        }
+    }
+
+    double sinceStart() {
+        return (System.nanoTime() - startNanos) / 1e6;
+    }
+}